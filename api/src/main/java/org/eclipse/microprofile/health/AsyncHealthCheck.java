@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+package org.eclipse.microprofile.health;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * The asynchronous health check procedure interface. Invoked by consumers to verify the healthiness of a computing node
+ * without blocking the invoking thread while the procedure waits on non-blocking resources.
+ * <p>
+ * An {@link AsyncHealthCheck} is discovered in the same way as a {@link HealthCheck}, i.e. it needs to be annotated
+ * with the {@link Liveness}, {@link Readiness} or {@link Startup} qualifier to be considered an active procedure. If
+ * the returned {@link CompletionStage} completes exceptionally, the runtime synthesizes a {@code DOWN} response in the
+ * same way as if a {@link HealthCheck#call()} invocation threw an exception.
+ * </p>
+ *
+ * @since 4.1
+ */
+@FunctionalInterface
+public interface AsyncHealthCheck {
+
+    /**
+     * Invokes the asynchronous health check procedure provided by the implementation of this interface.
+     *
+     * @return {@link CompletionStage} completed with the {@link HealthCheckResponse} object containing information
+     *         about the health check result
+     */
+    CompletionStage<HealthCheckResponse> call();
+}
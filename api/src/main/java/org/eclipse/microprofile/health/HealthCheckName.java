@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+package org.eclipse.microprofile.health;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ *
+ * This annotation is used to declare the name of the {@link HealthCheckResponse} provided by a Health Check procedure,
+ * so that the runtime can resolve the procedure by its name without invoking it, i.e. to expose it at the
+ * {@code /health/check/{name}} endpoint.
+ * <p>
+ * The annotation can be placed on the bean class of a procedure or on the producer method or producer field of a
+ * procedure defined with a CDI producer. The declared name is expected to be the name of the responses the procedure
+ * provides. A {@link HealthIndicator} does not need to be annotated, as its name is given by
+ * {@link HealthIndicator#getName()}.
+ * </p>
+ *
+ * @since 4.1
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({TYPE, METHOD, FIELD})
+public @interface HealthCheckName {
+
+    /**
+     * The name of the responses provided by the procedure.
+     *
+     * @return the declared response name
+     */
+    String value();
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017-2024 Contributors to the Eclipse Foundation
+ * Copyright (c) 2017-2026 Contributors to the Eclipse Foundation
  *
  * See the NOTICES file(s) distributed with this work for additional
  * information regarding copyright ownership.
@@ -22,11 +22,17 @@
 
 package org.eclipse.microprofile.health;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -46,6 +52,14 @@ public class HealthCheckResponse {
 
     private static volatile HealthCheckResponseProvider provider = null;
 
+    private static final ConcurrentMap<ClassLoader, HealthCheckResponseProvider> CLASSLOADER_PROVIDERS =
+            new ConcurrentHashMap<>();
+
+    // providers found with the service loader per context classloader, only published once a lookup succeeded so that
+    // a failed one is retried
+    private static final ConcurrentMap<ClassLoader, HealthCheckResponseProvider> DISCOVERED_PROVIDERS =
+            new ConcurrentHashMap<>();
+
     private final String name;
 
     private final Status status;
@@ -99,6 +113,10 @@ public class HealthCheckResponse {
 
     /**
      * Used by OSGi environment where the service loader pattern is not supported.
+     * <p>
+     * Runtimes may also use this method to register their provider eagerly when they boot. A registered provider takes
+     * precedence over the service loader lookup, which is then never performed.
+     * </p>
      *
      * @param provider
      *            the provider instance to use.
@@ -107,6 +125,46 @@ public class HealthCheckResponse {
         HealthCheckResponse.provider = provider;
     }
 
+    /**
+     * Used by runtimes hosting multiple deployments to register the provider of a single deployment. The provider is
+     * used when a response is created from a thread whose context classloader is the given classloader or one of its
+     * descendants (i.e. the classloader of a web module of an enterprise application registered with the classloader of
+     * the application), unless a closer ancestor is registered as well. It takes precedence over the provider
+     * registered with {@link #setResponseProvider(HealthCheckResponseProvider)}.
+     * <p>
+     * The registration holds a reference to the classloader, runtimes are expected to call
+     * {@link #releaseResponseProvider(ClassLoader)} when the deployment is undeployed.
+     * </p>
+     *
+     * @param provider
+     *            the provider instance to use.
+     * @param classLoader
+     *            the classloader of the deployment.
+     * @throws NullPointerException
+     *             if {@code provider} or {@code classLoader} is {@code null}
+     * @since 4.1
+     */
+    public static void setResponseProvider(HealthCheckResponseProvider provider, ClassLoader classLoader) {
+        CLASSLOADER_PROVIDERS.put(Objects.requireNonNull(classLoader, "classLoader"),
+                Objects.requireNonNull(provider, "provider"));
+    }
+
+    /**
+     * Removes the provider registered for the given classloader with
+     * {@link #setResponseProvider(HealthCheckResponseProvider, ClassLoader)}, if any, as well as the provider found
+     * with the service loader for this context classloader.
+     *
+     * @param classLoader
+     *            the classloader of the undeployed deployment.
+     * @throws NullPointerException
+     *             if {@code classLoader} is {@code null}
+     * @since 4.1
+     */
+    public static void releaseResponseProvider(ClassLoader classLoader) {
+        CLASSLOADER_PROVIDERS.remove(Objects.requireNonNull(classLoader, "classLoader"));
+        DISCOVERED_PROVIDERS.remove(classLoader);
+    }
+
     /**
      * Creates a {@link HealthCheckResponseBuilder} with a name.
      *
@@ -132,43 +190,68 @@ public class HealthCheckResponse {
 
     /**
      * Creates a successful health check with a name.
+     * <p>
+     * The returned response does not carry any data and may be an instance shared with previous invocations using the
+     * same name, see {@link HealthCheckResponseProvider#createResponse(String, Status)}.
+     * </p>
      *
      * @param name
      *            the check name
-     * @return a new sucessful health check response with a name
+     * @return a sucessful health check response with a name
      */
     public static HealthCheckResponse up(String name) {
-        return HealthCheckResponse.named(name).up().build();
+        return getProvider().createResponse(name, Status.UP);
     }
 
     /**
      * Creates a failed health check with a name.
+     * <p>
+     * The returned response does not carry any data and may be an instance shared with previous invocations using the
+     * same name, see {@link HealthCheckResponseProvider#createResponse(String, Status)}.
+     * </p>
      *
      * @param name
      *            the check name
-     * @return a new failed health check response with a name
+     * @return a failed health check response with a name
      */
     public static HealthCheckResponse down(String name) {
-        return HealthCheckResponse.named(name).down().build();
+        return getProvider().createResponse(name, Status.DOWN);
     }
 
     private static HealthCheckResponseProvider getProvider() {
-        if (provider == null) {
-            synchronized (HealthCheckResponse.class) {
-                if (provider != null) {
-                    return provider;
+        ClassLoader contextClassLoader = getContextClassLoader();
+        if (!CLASSLOADER_PROVIDERS.isEmpty()) {
+            // the closest registered ancestor of the context classloader
+            for (ClassLoader cl = contextClassLoader; cl != null; cl = getParent(cl)) {
+                HealthCheckResponseProvider deploymentProvider = CLASSLOADER_PROVIDERS.get(cl);
+                if (deploymentProvider != null) {
+                    return deploymentProvider;
                 }
+            }
+        }
 
-                HealthCheckResponseProvider newInstance = find(HealthCheckResponseProvider.class);
+        HealthCheckResponseProvider registered = provider;
+        if (registered != null) {
+            return registered;
+        }
 
-                if (newInstance == null) {
-                    throw new IllegalStateException("No HealthCheckResponseProvider implementation found!");
-                }
+        ClassLoader key = contextClassLoader != null ? contextClassLoader : HealthCheckResponse.class.getClassLoader();
+        if (key == null) {
+            // bootstrap classloader, nothing to key the lookup with
+            return find(HealthCheckResponseProvider.class);
+        }
 
-                provider = newInstance;
+        HealthCheckResponseProvider found = DISCOVERED_PROVIDERS.get(key);
+        if (found == null) {
+            // concurrent first lookups may each scan the service loader, the first provider published is kept
+            found = find(HealthCheckResponseProvider.class);
+            HealthCheckResponseProvider published = DISCOVERED_PROVIDERS.putIfAbsent(key, found);
+            if (published != null) {
+                found = published;
             }
         }
-        return provider;
+
+        return found;
     }
 
     // the actual contract
@@ -202,6 +285,76 @@ public class HealthCheckResponse {
         return Optional.of(data.get(key));
     }
 
+    /**
+     * Access a string value of the Health check response data.
+     * <p>
+     * Implementation providers extending this class may override this method to read the value from their own data
+     * representation.
+     * </p>
+     *
+     * @param key
+     *            the identifier
+     * @return An {@link Optional} instance containing the value identified by {@code key}, or an empty {@link Optional}
+     *         if there is no such value or if the value is not a string
+     * @since 4.1
+     */
+    public Optional<String> getString(String key) {
+        Object value = data != null ? data.get(key) : null;
+        return value instanceof String ? Optional.of((String) value) : Optional.empty();
+    }
+
+    /**
+     * Access a numeric value of the Health check response data.
+     * <p>
+     * Implementation providers extending this class may override this method to read the value from their own data
+     * representation, i.e. to store the values added with {@link HealthCheckResponseBuilder#withData(String, long)}
+     * without boxing them.
+     * </p>
+     *
+     * @param key
+     *            the identifier
+     * @return An {@link OptionalLong} instance containing the value identified by {@code key}, or an empty
+     *         {@link OptionalLong} if there is no such value or if the value is not an integral number representable as
+     *         a {@code long} (i.e. a {@link Double} read from a JSON payload)
+     * @since 4.1
+     */
+    public OptionalLong getLong(String key) {
+        Object value = data != null ? data.get(key) : null;
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return OptionalLong.of(((Number) value).longValue());
+        }
+        try {
+            if (value instanceof BigInteger) {
+                return OptionalLong.of(((BigInteger) value).longValueExact());
+            }
+            if (value instanceof BigDecimal) {
+                return OptionalLong.of(((BigDecimal) value).longValueExact());
+            }
+        } catch (ArithmeticException e) {
+            // fractional or out of the long range
+        }
+        return OptionalLong.empty();
+    }
+
+    /**
+     * Access a boolean value of the Health check response data.
+     * <p>
+     * Implementation providers extending this class may override this method to read the value from their own data
+     * representation, i.e. to store the values added with {@link HealthCheckResponseBuilder#withData(String, boolean)}
+     * without boxing them.
+     * </p>
+     *
+     * @param key
+     *            the identifier
+     * @return An {@link Optional} instance containing the value identified by {@code key}, or an empty {@link Optional}
+     *         if there is no such value or if the value is not a boolean
+     * @since 4.1
+     */
+    public Optional<Boolean> getBoolean(String key) {
+        Object value = data != null ? data.get(key) : null;
+        return value instanceof Boolean ? Optional.of((Boolean) value) : Optional.empty();
+    }
+
     private static <T> T find(Class<T> service) {
 
         T serviceInstance = find(service, HealthCheckResponse.getContextClassLoader());
@@ -242,6 +395,15 @@ public class HealthCheckResponse {
         return serviceInstance;
     }
 
+    private static ClassLoader getParent(ClassLoader classLoader) {
+        try {
+            return classLoader.getParent();
+        } catch (SecurityException ex) {
+            LOGGER.log(Level.WARNING, "Unable to get parent classloader instance.", ex);
+            return null;
+        }
+    }
+
     private static ClassLoader getContextClassLoader() {
         return AccessController.doPrivileged((PrivilegedAction<ClassLoader>) () -> {
             ClassLoader cl = null;
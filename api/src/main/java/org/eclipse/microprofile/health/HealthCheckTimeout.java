@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+package org.eclipse.microprofile.health;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.time.temporal.ChronoUnit;
+
+/**
+ *
+ * This annotation is used to define the maximum duration of a single Health Check procedure invocation. A procedure
+ * that does not provide its response within this duration is abandoned and reported with a synthesized {@code DOWN}
+ * response.
+ * <p>
+ * The annotation can be placed on the bean class of a procedure or on the producer method of a procedure defined with a
+ * CDI producer. The value can be overridden with the {@code mp.health.check.<identifier>.timeout} MicroProfile Config
+ * property.
+ * </p>
+ *
+ * @since 4.1
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({TYPE, METHOD})
+public @interface HealthCheckTimeout {
+
+    /**
+     * The maximum duration of the procedure invocation, expressed in {@link #unit()}.
+     *
+     * @return the timeout value, must be positive
+     */
+    long value();
+
+    /**
+     * The unit of the {@link #value()}.
+     *
+     * @return the timeout unit
+     */
+    ChronoUnit unit() default ChronoUnit.MILLIS;
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+package org.eclipse.microprofile.health;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.enterprise.util.AnnotationLiteral;
+import jakarta.inject.Qualifier;
+
+/**
+ *
+ * This qualifier is used to add a Health Check procedure to a named group of procedures, exposed by the runtime at the
+ * {@code /health/group/{name}} endpoint.
+ * <p>
+ * A procedure may belong to several groups, and may additionally be qualified with {@link Liveness}, {@link Readiness}
+ * or {@link Startup}. A procedure qualified only with groups is executed only for the endpoints of its groups.
+ * </p>
+ * <p>
+ * The group name must be a non empty sequence of ASCII letters, digits, {@code '.'}, {@code '_'} and {@code '-'}
+ * characters.
+ * </p>
+ *
+ * @since 4.1
+ */
+@Qualifier
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({TYPE, METHOD, PARAMETER, FIELD})
+@Repeatable(HealthGroups.class)
+public @interface HealthGroup {
+
+    /**
+     * @return the name of the group
+     */
+    String value();
+
+    /**
+     * Support inline instantiation of the {@link HealthGroup} qualifier.
+     *
+     * @since 4.1
+     */
+    public static final class Literal extends AnnotationLiteral<HealthGroup> implements HealthGroup {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String value;
+
+        private Literal(String value) {
+            this.value = value;
+        }
+
+        /**
+         * Creates a {@link HealthGroup} qualifier instance for the given group.
+         *
+         * @param value
+         *            the name of the group
+         * @return the {@link HealthGroup} qualifier instance
+         */
+        public static Literal of(String value) {
+            return new Literal(value);
+        }
+
+        @Override
+        public String value() {
+            return value;
+        }
+    }
+}
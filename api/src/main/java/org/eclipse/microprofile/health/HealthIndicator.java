@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+package org.eclipse.microprofile.health;
+
+import java.util.Objects;
+
+/**
+ * A health check procedure reporting a status updated by the application when the state it reflects changes (i.e. a
+ * consumer losing its broker connection or a cache completing its warm-up), instead of computing it again on each
+ * invocation.
+ * <p>
+ * Updating the status and invoking the procedure are lock-free: {@link #call()} only reads the latest response, and the
+ * responses of {@link #up()} and {@link #down()} are created once, when the indicator is created.
+ * </p>
+ * <p>
+ * An indicator is discovered as any other {@link HealthCheck} procedure, i.e. with a producer field of the default
+ * {@code @Dependent} scope, declared in an application scoped bean:
+ * </p>
+ *
+ * <pre>
+ * &#64;Produces
+ * &#64;Readiness
+ * HealthIndicator broker = new HealthIndicator("broker");
+ * </pre>
+ *
+ * @since 4.1
+ */
+public final class HealthIndicator implements HealthCheck {
+
+    private final String name;
+
+    private final HealthCheckResponse up;
+
+    private final HealthCheckResponse down;
+
+    private volatile HealthCheckResponse response;
+
+    /**
+     * Creates an indicator with the given response name, initially reporting a {@code DOWN} status.
+     *
+     * @param name
+     *            the name of the responses of the indicator
+     */
+    public HealthIndicator(String name) {
+        this(name, HealthCheckResponse.Status.DOWN);
+    }
+
+    /**
+     * Creates an indicator with the given response name and initial status.
+     *
+     * @param name
+     *            the name of the responses of the indicator
+     * @param initialStatus
+     *            the status reported until the indicator is updated
+     */
+    public HealthIndicator(String name, HealthCheckResponse.Status initialStatus) {
+        this.name = Objects.requireNonNull(name, "name");
+        this.up = HealthCheckResponse.up(name);
+        this.down = HealthCheckResponse.down(name);
+        this.response = initialStatus == HealthCheckResponse.Status.UP ? up : down;
+    }
+
+    /**
+     * @return the name of the responses of the indicator
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Reports an {@code UP} status, without data.
+     */
+    public void up() {
+        response = up;
+    }
+
+    /**
+     * Reports a {@code DOWN} status, without data.
+     */
+    public void down() {
+        response = down;
+    }
+
+    /**
+     * Reports an {@code UP} status if {@code up} is {@code true}, a {@code DOWN} status otherwise, without data.
+     *
+     * @param up
+     *            the status to report
+     */
+    public void status(boolean up) {
+        response = up ? this.up : down;
+    }
+
+    /**
+     * Reports the given response, i.e. to include data.
+     *
+     * @param response
+     *            the response to report, expected to have the name of the indicator
+     */
+    public void set(HealthCheckResponse response) {
+        this.response = Objects.requireNonNull(response, "response");
+    }
+
+    /**
+     * @return the latest status reported by the indicator
+     */
+    public HealthCheckResponse.Status getStatus() {
+        return response.getStatus();
+    }
+
+    /**
+     * Returns the latest response reported by the indicator, without computing anything.
+     *
+     * @return the latest response
+     */
+    @Override
+    public HealthCheckResponse call() {
+        return response;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+package org.eclipse.microprofile.health;
+
+import java.util.concurrent.Flow;
+
+/**
+ * A publisher of the overall health status, allowing application components to react to health status transitions
+ * in-process, without polling the health endpoints or invoking the health check procedures themselves.
+ * <p>
+ * The runtime provides a bean of this type for each kind of health check procedures, qualified with {@link Liveness},
+ * {@link Readiness} or {@link Startup}, and a bean with the {@code @Default} qualifier publishing the overall status of
+ * all the procedures (i.e. the status of the {@code /health} endpoint):
+ * </p>
+ *
+ * <pre>
+ * &#64;Inject
+ * &#64;Readiness
+ * HealthStatusPublisher readiness;
+ * </pre>
+ * <p>
+ * The publisher observes the executions of the procedures performed by the runtime (i.e. to respond to the health
+ * endpoints requests), subscribing to it never triggers an execution. It emits:
+ * </p>
+ * <ul>
+ * <li>the current status to a new subscriber, as soon as the status is known</li>
+ * <li>the new status to every subscriber each time the status changes</li>
+ * </ul>
+ * <p>
+ * Each subscriber is signaled independently, a subscriber that is slow or does not request any item does not delay the
+ * other subscribers nor the executions of the procedures. When a status changes while a subscriber has no outstanding
+ * demand, only the latest status is kept for this subscriber and delivered once it requests an item, so a subscriber
+ * never receives the same status twice in a row.
+ * </p>
+ *
+ * @since 4.1
+ */
+public interface HealthStatusPublisher extends Flow.Publisher<HealthCheckResponse.Status> {
+}
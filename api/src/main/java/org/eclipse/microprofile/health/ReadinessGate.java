@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+package org.eclipse.microprofile.health;
+
+/**
+ * A gate overriding the readiness status, i.e. to stop receiving traffic before the application shuts down.
+ * <p>
+ * The runtime provides an application scoped bean of this type, initially open. While the gate is closed, the readiness
+ * endpoint responds with a negative overall status without invoking any readiness procedure. The runtime closes the
+ * gate when the shutdown of the application begins.
+ * </p>
+ *
+ * <pre>
+ * &#64;Inject
+ * ReadinessGate gate;
+ *
+ * void drain() {
+ *     gate.close();
+ *     [...]
+ * }
+ * </pre>
+ *
+ * @since 4.1
+ */
+public interface ReadinessGate {
+
+    /**
+     * Closes the gate, the readiness status is negative from now on, until the gate is opened again. Closing a closed
+     * gate has no effect.
+     */
+    void close();
+
+    /**
+     * Opens the gate, the readiness status is determined by the readiness procedures again. Opening an open gate has no
+     * effect.
+     */
+    void open();
+
+    /**
+     * @return {@code true} if the gate is open, {@code false} if it is closed
+     */
+    boolean isOpen();
+}
@@ -1,6 +1,6 @@
 /*
  *******************************************************************************
- * Copyright (c) 2016-2024 Contributors to the Eclipse Foundation
+ * Copyright (c) 2016-2026 Contributors to the Eclipse Foundation
  *
  * See the NOTICE file(s) distributed with this work for additional
  * information regarding copyright ownership.
@@ -23,5 +23,5 @@
  * Microprofile Health
  * </p>
  **/
-@org.osgi.annotation.versioning.Version("3.1")
+@org.osgi.annotation.versioning.Version("3.2")
 package org.eclipse.microprofile.health;
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package org.eclipse.microprofile.health.spi;
+
+import java.lang.annotation.Annotation;
+import java.util.Set;
+
+import org.eclipse.microprofile.health.HealthCheckResponse;
+
+/**
+ * <p>
+ * Receives a notification before and after each invocation of a health check procedure by the runtime, i.e. to measure
+ * the duration of each procedure. The enabled CDI beans of this type are notified in an unspecified order.
+ * </p>
+ * <p>
+ * The callbacks are invoked on the hot path of the health check requests and are expected to return quickly. A callback
+ * throwing an exception does not change the response of the procedure.
+ * </p>
+ *
+ * @since 4.1
+ */
+public interface HealthCheckExecutionListener {
+
+    /**
+     * Invoked before the invocation of a procedure.
+     *
+     * @param procedure
+     *            the identifier of the procedure, i.e. the fully qualified name of its bean class
+     * @param kinds
+     *            the kinds of the procedure, i.e. the {@code Liveness}, {@code Readiness}, {@code Startup} or
+     *            {@code HealthGroup} qualifier types it is declared with
+     */
+    default void beforeInvocation(String procedure, Set<Class<? extends Annotation>> kinds) {
+    }
+
+    /**
+     * Invoked after the invocation of a procedure, once its response is known. For an asynchronous procedure, it is
+     * invoked when the returned {@code CompletionStage} completes or times out.
+     *
+     * @param procedure
+     *            the identifier of the procedure, i.e. the fully qualified name of its bean class
+     * @param kinds
+     *            the kinds of the procedure, i.e. the {@code Liveness}, {@code Readiness}, {@code Startup} or
+     *            {@code HealthGroup} qualifier types it is declared with
+     * @param durationNanos
+     *            the duration of the invocation, in nanoseconds
+     * @param response
+     *            the response of the procedure, or the response synthesized by the runtime if the invocation failed
+     * @param failure
+     *            the exception thrown by the procedure, the exception completing its {@code CompletionStage}, a
+     *            {@link java.util.concurrent.TimeoutException} if the invocation timed out, or {@code null} if the
+     *            invocation succeeded
+     */
+    default void afterInvocation(String procedure, Set<Class<? extends Annotation>> kinds, long durationNanos,
+            HealthCheckResponse response, Throwable failure) {
+    }
+}
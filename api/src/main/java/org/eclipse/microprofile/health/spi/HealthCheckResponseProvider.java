@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017 Contributors to the Eclipse Foundation
+ * Copyright (c) 2017-2026 Contributors to the Eclipse Foundation
  *
  * See the NOTICES file(s) distributed with this work for additional
  * information regarding copyright ownership.
@@ -22,6 +22,7 @@
 
 package org.eclipse.microprofile.health.spi;
 
+import org.eclipse.microprofile.health.HealthCheckResponse;
 import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
 
 /**
@@ -40,4 +41,24 @@ public interface HealthCheckResponseProvider {
      */
     HealthCheckResponseBuilder createResponseBuilder();
 
+    /**
+     * Provides a {@link HealthCheckResponse} with the given name and status and without any data. Used by
+     * {@link HealthCheckResponse#up(String)} and {@link HealthCheckResponse#down(String)}.
+     * <p>
+     * As such a response is immutable, implementations may return the same instance for every invocation with the same
+     * name and status instead of building a new response each time. The default implementation builds a new response
+     * with the {@link HealthCheckResponseBuilder} provided by {@link #createResponseBuilder()}.
+     * </p>
+     *
+     * @param name
+     *            the check name
+     * @param status
+     *            the check status
+     * @return a health check response with the given name and status and without any data
+     * @since 4.1
+     */
+    default HealthCheckResponse createResponse(String name, HealthCheckResponse.Status status) {
+        return createResponseBuilder().name(name).status(status == HealthCheckResponse.Status.UP).build();
+    }
+
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package org.eclipse.microprofile.health.spi;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.microprofile.health.HealthCheckResponse;
+
+/**
+ * <p>
+ * Reserved for implementors as means to write health check responses directly to a character or byte stream, without
+ * building an intermediate JSON object tree. The written JSON MUST follow the JSON payload specification of the
+ * MicroProfile Health specification. This writer is located using the default service loader.
+ * </p>
+ *
+ * @since 4.1
+ */
+public interface HealthCheckResponseWriter {
+
+    /**
+     * Writes a single health check response as a JSON object, i.e. an item of the {@code checks} array of the JSON
+     * payload.
+     *
+     * @param response
+     *            the health check response to write
+     * @param writer
+     *            the writer to write the JSON object to, it is neither flushed nor closed
+     * @throws IOException
+     *             if the JSON object cannot be written
+     */
+    void write(HealthCheckResponse response, Writer writer) throws IOException;
+
+    /**
+     * Writes the aggregated result of a health check request as a JSON object containing the overall {@code status} and
+     * the {@code checks} array.
+     * <p>
+     * The checks are written in the iteration order of {@code checks}, which is traversed only once.
+     * </p>
+     *
+     * @param status
+     *            the overall status
+     * @param checks
+     *            the health check responses to include in the {@code checks} array
+     * @param writer
+     *            the writer to write the JSON object to, it is neither flushed nor closed
+     * @throws IOException
+     *             if the JSON object cannot be written
+     */
+    void write(HealthCheckResponse.Status status, Iterable<HealthCheckResponse> checks, Writer writer)
+            throws IOException;
+
+    /**
+     * Writes a single health check response as an UTF-8 encoded JSON object.
+     *
+     * @param response
+     *            the health check response to write
+     * @param out
+     *            the stream to write the JSON object to, it is not closed
+     * @throws IOException
+     *             if the JSON object cannot be written
+     * @see #write(HealthCheckResponse, Writer)
+     */
+    default void write(HealthCheckResponse response, OutputStream out) throws IOException {
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        write(response, writer);
+        writer.flush();
+    }
+
+    /**
+     * Writes the aggregated result of a health check request as an UTF-8 encoded JSON object.
+     *
+     * @param status
+     *            the overall status
+     * @param checks
+     *            the health check responses to include in the {@code checks} array
+     * @param out
+     *            the stream to write the JSON object to, it is not closed
+     * @throws IOException
+     *             if the JSON object cannot be written
+     * @see #write(HealthCheckResponse.Status, Iterable, Writer)
+     */
+    default void write(HealthCheckResponse.Status status, Iterable<HealthCheckResponse> checks, OutputStream out)
+            throws IOException {
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        write(status, checks, writer);
+        writer.flush();
+    }
+}
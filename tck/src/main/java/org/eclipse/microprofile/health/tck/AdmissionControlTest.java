@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package org.eclipse.microprofile.health.tck;
+
+import static org.eclipse.microprofile.health.tck.DeploymentUtils.createWarFileWithClasses;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.health.tck.deployment.CountingLiveness;
+import org.eclipse.microprofile.health.tck.deployment.SlowCountingReadiness;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+
+public class AdmissionControlTest extends TCKBase {
+
+    // long enough for the readiness request to hold the single execution slot, shorter than SlowCountingReadiness.DELAY
+    private static final long HOLD_DELAY = 500;
+
+    @Deployment
+    public static Archive getDeployment() {
+        return createWarFileWithClasses(AdmissionControlTest.class.getSimpleName(), SlowCountingReadiness.class,
+                CountingLiveness.class)
+                .addAsManifestResource(new StringAsset("mp.health.execution.max-concurrent=1\n" +
+                        "mp.health.execution.admission-timeout=100"),
+                        "microprofile-config.properties");
+    }
+
+    /**
+     * Verifies that with "mp.health.execution.max-concurrent" reached, a request waits for an execution slot when no
+     * previous result exists, is served the last completed result otherwise, and never receives a negative status
+     */
+    @Test
+    @RunAsClient
+    public void testRequestsOverLimit() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // no execution completed yet, the liveness request waits for the slot held by the readiness request
+            Future<Response> readiness = executor.submit(this::getUrlReadyContents);
+            Thread.sleep(HOLD_DELAY);
+            Assert.assertEquals(getCountingLivenessInvocations(), 1,
+                    "Expected the liveness procedure to be executed once the slot is released");
+            assertSlowCountingCheck(readiness);
+
+            // the last completed liveness result is served instead of a new execution
+            readiness = executor.submit(this::getUrlReadyContents);
+            Thread.sleep(HOLD_DELAY);
+            long start = System.nanoTime();
+            Assert.assertEquals(getCountingLivenessInvocations(), 1,
+                    "Expected the last completed liveness result to be served over the limit");
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            Assert.assertTrue(elapsed < SlowCountingReadiness.DELAY - HOLD_DELAY,
+                    String.format("Expected the last completed result to be served without waiting for the running " +
+                            "execution, but the response took %d ms", elapsed));
+            assertSlowCountingCheck(readiness);
+
+            // below the limit again
+            Assert.assertEquals(getCountingLivenessInvocations(), 2,
+                    "Expected the liveness procedure to be executed below the limit");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long getCountingLivenessInvocations() {
+        Response response = getUrlLiveContents();
+
+        // status code
+        Assert.assertEquals(response.getStatus(), 200);
+
+        JsonObject json = readJson(response);
+
+        // response size
+        JsonArray checks = json.getJsonArray("checks");
+        Assert.assertEquals(checks.size(), 1, "Expected a single check response");
+
+        // single procedure response
+        assertSuccessfulCheck(checks.getJsonObject(0), "counting-liveness-check");
+
+        assertOverallSuccess(json);
+
+        return getInvocations(checks.getJsonObject(0));
+    }
+
+    private void assertSlowCountingCheck(Future<Response> readiness) throws InterruptedException, ExecutionException {
+        Response response = readiness.get();
+
+        // status code
+        Assert.assertEquals(response.getStatus(), 200);
+
+        JsonObject json = readJson(response);
+
+        // response size
+        JsonArray checks = json.getJsonArray("checks");
+        Assert.assertEquals(checks.size(), 1, "Expected a single check response");
+
+        // single procedure response
+        assertSuccessfulCheck(checks.getJsonObject(0), "slow-counting-check");
+
+        assertOverallSuccess(json);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package org.eclipse.microprofile.health.tck;
+
+import static org.eclipse.microprofile.health.tck.DeploymentUtils.createWarFileWithClasses;
+
+import org.eclipse.microprofile.health.tck.deployment.CachedReadiness;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+
+public class CachedForTest extends TCKBase {
+
+    @Deployment
+    public static Archive getDeployment() {
+        return createWarFileWithClasses(CachedForTest.class.getSimpleName(), CachedReadiness.class)
+                .addAsManifestResource(new StringAsset("mp.health.response.timestamp=true"),
+                        "microprofile-config.properties");
+    }
+
+    /**
+     * Verifies that a procedure annotated with {@code @CachedFor} is not invoked again within the caching duration and
+     * that every endpoint serves the cached response with the time it was computed
+     */
+    @Test
+    @RunAsClient
+    public void testCachedResponsePayload() {
+        JsonObject first = getSingleCachedCheck(getUrlReadyContents());
+        JsonObject second = getSingleCachedCheck(getUrlReadyContents());
+        JsonObject third = getSingleCachedCheck(getUrlHealthContents());
+
+        Assert.assertEquals(getInvocations(first), 1, "Expected the procedure to be invoked once");
+        Assert.assertEquals(getInvocations(second), 1, "Expected the cached response to be served");
+        Assert.assertEquals(getInvocations(third), 1, "Expected the cached response to be served");
+
+        Assert.assertTrue(first.containsKey("timestamp"), "Expected the response timestamp to be included");
+        Assert.assertEquals(second.getString("timestamp"), first.getString("timestamp"),
+                "Expected the cached response to carry the time it was computed");
+        Assert.assertEquals(third.getString("timestamp"), first.getString("timestamp"),
+                "Expected the cached response to carry the time it was computed");
+    }
+
+    private JsonObject getSingleCachedCheck(Response response) {
+        // status code
+        Assert.assertEquals(response.getStatus(), 200);
+
+        JsonObject json = readJson(response);
+
+        // response size
+        JsonArray checks = json.getJsonArray("checks");
+        Assert.assertEquals(checks.size(), 1, "Expected a single check response");
+
+        // single procedure response
+        assertSuccessfulCheck(checks.getJsonObject(0), "cached-check");
+
+        assertOverallSuccess(json);
+
+        return checks.getJsonObject(0);
+    }
+}
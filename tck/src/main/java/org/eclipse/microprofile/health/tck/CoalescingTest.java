@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package org.eclipse.microprofile.health.tck;
+
+import static org.eclipse.microprofile.health.tck.DeploymentUtils.createWarFileWithClasses;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.microprofile.health.tck.deployment.SlowCountingReadiness;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.Archive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+
+public class CoalescingTest extends TCKBase {
+
+    private static final int REQUESTS = 5;
+
+    @Deployment
+    public static Archive getDeployment() {
+        return createWarFileWithClasses(CoalescingTest.class.getSimpleName(), SlowCountingReadiness.class);
+    }
+
+    /**
+     * Verifies that concurrent requests to the same endpoint share a single execution of the procedures, and that a
+     * later request starts a new one
+     */
+    @Test
+    @RunAsClient
+    public void testConcurrentRequestsToSameEndpoint() {
+        long invocations = assertSingleInvocation(
+                getUrlContentsConcurrently(Collections.nCopies(REQUESTS, "/health/ready")));
+
+        JsonObject check = getSlowCountingCheck(getUrlReadyContents());
+        Assert.assertEquals(getInvocations(check), invocations + 1,
+                "Expected a request received after the execution completed to invoke the procedure again");
+    }
+
+    /**
+     * Verifies that concurrent requests to different endpoints share the running invocation of the same procedure
+     */
+    @Test
+    @RunAsClient
+    public void testConcurrentRequestsToDifferentEndpoints() {
+        assertSingleInvocation(getUrlContentsConcurrently(Arrays.asList("/health/ready", "/health")));
+    }
+
+    private long assertSingleInvocation(List<Response> responses) {
+        Long invocations = null;
+        for (Response response : responses) {
+            long current = getInvocations(getSlowCountingCheck(response));
+            if (invocations == null) {
+                invocations = current;
+            }
+            Assert.assertEquals(current, invocations.longValue(),
+                    "Expected all the concurrent requests to share a single invocation of the procedure");
+        }
+        return invocations;
+    }
+
+    private JsonObject getSlowCountingCheck(Response response) {
+        // status code
+        Assert.assertEquals(response.getStatus(), 200);
+
+        JsonObject json = readJson(response);
+
+        // response size
+        JsonArray checks = json.getJsonArray("checks");
+        Assert.assertEquals(checks.size(), 1, "Expected a single check response");
+
+        // single procedure response
+        assertSuccessfulCheck(checks.getJsonObject(0), "slow-counting-check");
+
+        assertOverallSuccess(json);
+
+        return checks.getJsonObject(0);
+    }
+}
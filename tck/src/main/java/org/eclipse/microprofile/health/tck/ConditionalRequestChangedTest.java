@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package org.eclipse.microprofile.health.tck;
+
+import static org.eclipse.microprofile.health.tck.DeploymentUtils.createWarFileWithClasses;
+
+import java.util.Collections;
+
+import org.eclipse.microprofile.health.tck.deployment.FlippingReadiness;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.Archive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+
+public class ConditionalRequestChangedTest extends TCKBase {
+
+    @Deployment
+    public static Archive getDeployment() {
+        return createWarFileWithClasses(ConditionalRequestChangedTest.class.getSimpleName(),
+                FlippingReadiness.class);
+    }
+
+    /**
+     * Verifies that the ETag changes when a check flips and that a request with an outdated If-None-Match header
+     * receives the full payload
+     */
+    @Test
+    @RunAsClient
+    public void testChangedETag() {
+        Response up = getUrlReadyContents();
+
+        // status code
+        Assert.assertEquals(up.getStatus(), 200);
+
+        String etag = up.getHeader("ETag").orElseThrow(() -> new AssertionError("Expected an ETag header"));
+
+        // the check flips to DOWN
+        Response down = getUrlContents("/health/ready", Collections.singletonMap("If-None-Match", etag));
+
+        // status code
+        Assert.assertEquals(down.getStatus(), 503);
+        Assert.assertNotEquals(down.getHeader("ETag").orElse(null), etag,
+                "Expected a different ETag for a different payload");
+
+        JsonObject json = readJson(down);
+
+        // response size
+        JsonArray checks = json.getJsonArray("checks");
+        Assert.assertEquals(checks.size(), 1, "Expected a single check response");
+
+        // single procedure response
+        assertFailureCheck(checks.getJsonObject(0), "flipping-check");
+
+        assertOverallFailure(json);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package org.eclipse.microprofile.health.tck;
+
+import static org.eclipse.microprofile.health.tck.DeploymentUtils.createWarFileWithClasses;
+
+import java.util.Collections;
+
+import org.eclipse.microprofile.health.tck.deployment.SuccessfulReadiness;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.Archive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ConditionalRequestTest extends TCKBase {
+
+    @Deployment
+    public static Archive getDeployment() {
+        return createWarFileWithClasses(ConditionalRequestTest.class.getSimpleName(), SuccessfulReadiness.class);
+    }
+
+    /**
+     * Verifies that identical payloads carry the same strong ETag
+     */
+    @Test
+    @RunAsClient
+    public void testStableETag() {
+        Response first = getUrlReadyContents();
+        Response second = getUrlReadyContents();
+
+        // status code
+        Assert.assertEquals(first.getStatus(), 200);
+        Assert.assertEquals(second.getStatus(), 200);
+
+        Assert.assertEquals(second.getBody(), first.getBody(), "Expected identical payloads");
+
+        String etag = first.getHeader("ETag").orElseThrow(() -> new AssertionError("Expected an ETag header"));
+        Assert.assertFalse(etag.startsWith("W/"), "Expected a strong ETag");
+        Assert.assertEquals(second.getHeader("ETag").orElse(null), etag,
+                "Expected identical payloads to carry the same ETag");
+    }
+
+    /**
+     * Verifies that a request with a matching If-None-Match header is answered with 304 and no payload
+     */
+    @Test
+    @RunAsClient
+    public void testNotModifiedResponse() {
+        Response response = getUrlReadyContents();
+
+        // status code
+        Assert.assertEquals(response.getStatus(), 200);
+
+        String etag = response.getHeader("ETag").orElseThrow(() -> new AssertionError("Expected an ETag header"));
+
+        Response conditional = getUrlContents("/health/ready", Collections.singletonMap("If-None-Match", etag));
+
+        // status code
+        Assert.assertEquals(conditional.getStatus(), 304);
+        Assert.assertFalse(conditional.getBody().isPresent(), "Didn't expect any payload");
+        Assert.assertEquals(conditional.getHeader("ETag").orElse(null), etag);
+    }
+}
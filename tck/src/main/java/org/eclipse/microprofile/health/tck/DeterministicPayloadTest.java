@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package org.eclipse.microprofile.health.tck;
+
+import static org.eclipse.microprofile.health.tck.DeploymentUtils.createWarFileWithClasses;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.microprofile.health.tck.deployment.CheckWithAttributes;
+import org.eclipse.microprofile.health.tck.deployment.FailedReadiness;
+import org.eclipse.microprofile.health.tck.deployment.SuccessfulLiveness;
+import org.eclipse.microprofile.health.tck.deployment.SuccessfulReadiness;
+import org.eclipse.microprofile.health.tck.deployment.UnorderedDataReadiness;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.Archive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+
+public class DeterministicPayloadTest extends TCKBase {
+
+    @Deployment
+    public static Archive getDeployment() {
+        return createWarFileWithClasses(DeterministicPayloadTest.class.getSimpleName(),
+                SuccessfulLiveness.class, SuccessfulReadiness.class, FailedReadiness.class,
+                CheckWithAttributes.class, UnorderedDataReadiness.class);
+    }
+
+    /**
+     * Verifies that the checks and their data are ordered deterministically and that identical results are encoded to
+     * identical payloads
+     */
+    @Test
+    @RunAsClient
+    public void testDeterministicResponsePayload() {
+        Response first = getUrlHealthContents();
+        Response second = getUrlHealthContents();
+
+        // status code
+        Assert.assertEquals(first.getStatus(), 503);
+
+        Assert.assertEquals(second.getBody(), first.getBody(), "Expected byte-for-byte identical payloads");
+
+        JsonObject json = readJson(first);
+
+        // response size
+        JsonArray checks = json.getJsonArray("checks");
+        Assert.assertEquals(checks.size(), 5, "Expected five check responses");
+
+        List<String> names = new ArrayList<>();
+        for (JsonObject check : checks.getValuesAs(JsonObject.class)) {
+            names.add(check.getString("name"));
+        }
+        List<String> sortedNames = new ArrayList<>(names);
+        sortedNames.sort(null);
+        Assert.assertEquals(names, sortedNames, "Expected the checks to be ordered by name");
+
+        for (JsonObject check : checks.getValuesAs(JsonObject.class)) {
+            if (check.containsKey("data")) {
+                List<String> keys = new ArrayList<>(check.getJsonObject("data").keySet());
+                List<String> sortedKeys = new ArrayList<>(keys);
+                sortedKeys.sort(null);
+                Assert.assertEquals(keys, sortedKeys, "Expected the data entries to be ordered by key");
+            }
+        }
+
+        // data added out of order
+        JsonObject unordered = checks.getValuesAs(JsonObject.class).stream()
+                .filter(check -> check.getString("name").equals("unordered-data-check"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Expected the unordered-data-check response"));
+        Assert.assertEquals(new ArrayList<>(unordered.getJsonObject("data").keySet()),
+                Arrays.asList("alpha", "mu", "zeta"), "Expected the data entries to be ordered by key");
+
+        assertOverallFailure(json);
+    }
+}
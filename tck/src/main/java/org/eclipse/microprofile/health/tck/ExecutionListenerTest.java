@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package org.eclipse.microprofile.health.tck;
+
+import static org.eclipse.microprofile.health.tck.DeploymentUtils.createWarFileWithClasses;
+
+import org.eclipse.microprofile.health.tck.deployment.ListenerReportLiveness;
+import org.eclipse.microprofile.health.tck.deployment.RecordingListener;
+import org.eclipse.microprofile.health.tck.deployment.SuccessfulReadiness;
+import org.eclipse.microprofile.health.tck.deployment.ThrowingReadiness;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.Archive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+
+public class ExecutionListenerTest extends TCKBase {
+
+    @Deployment
+    public static Archive getDeployment() {
+        return createWarFileWithClasses(ExecutionListenerTest.class.getSimpleName(), SuccessfulReadiness.class,
+                ThrowingReadiness.class, RecordingListener.class, ListenerReportLiveness.class);
+    }
+
+    /**
+     * Verifies that the enabled {@code HealthCheckExecutionListener} beans are notified before and after each
+     * invocation, including the invocations reported with a synthesized DOWN response
+     */
+    @Test
+    @RunAsClient
+    public void testListenerNotifications() {
+        for (int i = 0; i < 2; i++) {
+            // status code
+            Assert.assertEquals(getUrlReadyContents().getStatus(), 503);
+        }
+
+        Response response = getUrlLiveContents();
+
+        // status code
+        Assert.assertEquals(response.getStatus(), 200);
+
+        JsonObject json = readJson(response);
+
+        // response size
+        JsonArray checks = json.getJsonArray("checks");
+        Assert.assertEquals(checks.size(), 1, "Expected a single check response");
+
+        // single procedure response
+        assertSuccessfulCheck(checks.getJsonObject(0), "listener-report");
+
+        JsonObject data = checks.getJsonObject(0).getJsonObject("data");
+        assertNotifications(data, SuccessfulReadiness.class.getName(), "UP", "none");
+        assertNotifications(data, ThrowingReadiness.class.getName(), "DOWN",
+                IllegalStateException.class.getName());
+    }
+
+    private void assertNotifications(JsonObject data, String procedure, String status, String failure) {
+        Assert.assertEquals(data.getJsonNumber(procedure + ".before").longValue(), 2,
+                "Expected the listener to be notified before each invocation of " + procedure);
+        Assert.assertEquals(data.getJsonNumber(procedure + ".after").longValue(), 2,
+                "Expected the listener to be notified after each invocation of " + procedure);
+        Assert.assertEquals(data.getString(procedure + ".status"), status,
+                "Expected the listener to receive the response of " + procedure);
+        Assert.assertEquals(data.getString(procedure + ".failure"), failure,
+                "Expected the listener to receive the failure of " + procedure);
+        Assert.assertTrue(data.getJsonNumber(procedure + ".duration").longValue() >= 0,
+                "Expected the listener to receive the duration of " + procedure);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package org.eclipse.microprofile.health.tck;
+
+import static org.eclipse.microprofile.health.tck.DeploymentUtils.createWarFileWithClasses;
+
+import org.eclipse.microprofile.health.tck.deployment.CachedReadiness;
+import org.eclipse.microprofile.health.tck.deployment.FlightRecorderEvents;
+import org.eclipse.microprofile.health.tck.deployment.FlightRecorderReport;
+import org.eclipse.microprofile.health.tck.deployment.SuccessfulReadiness;
+import org.eclipse.microprofile.health.tck.deployment.ThrowingReadiness;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.Archive;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+
+public class FlightRecorderEventsTest extends TCKBase {
+
+    @Deployment
+    public static Archive getDeployment() {
+        return createWarFileWithClasses(FlightRecorderEventsTest.class.getSimpleName(), SuccessfulReadiness.class,
+                CachedReadiness.class, ThrowingReadiness.class, FlightRecorderReport.class, FlightRecorderEvents.class);
+    }
+
+    /**
+     * Verifies that the Invocation and Evaluation events are emitted for each request, with the source of the
+     * responses, their fields and a non-negative duration
+     */
+    @Test
+    @RunAsClient
+    public void testFlightRecorderEvents() {
+        for (int i = 0; i < 2; i++) {
+            // status code
+            Assert.assertEquals(getUrlReadyContents().getStatus(), 503);
+        }
+
+        Response response = getUrlLiveContents();
+
+        // status code
+        Assert.assertEquals(response.getStatus(), 200);
+
+        JsonObject json = readJson(response);
+
+        // response size
+        JsonArray checks = json.getJsonArray("checks");
+        Assert.assertEquals(checks.size(), 1, "Expected a single check response");
+
+        // single procedure response
+        assertSuccessfulCheck(checks.getJsonObject(0), "flight-recorder-report");
+
+        JsonObject data = checks.getJsonObject(0).getJsonObject("data");
+        if (!data.getBoolean("available")) {
+            throw new SkipException("The JDK Flight Recorder is not available in the runtime");
+        }
+
+        assertEventCount(data, "invocation:" + SuccessfulReadiness.class.getName() + ":invoked:UP", 2);
+        assertEventCount(data, "invocation:" + CachedReadiness.class.getName() + ":invoked:UP", 1);
+        assertEventCount(data, "invocation:" + CachedReadiness.class.getName() + ":cached:UP", 1);
+        assertEventCount(data, "invocation:" + ThrowingReadiness.class.getName() + ":invoked:DOWN", 2);
+        assertEventCount(data, "evaluation:/health/ready:executed:DOWN", 2);
+        assertEventCount(data, "checks:/health/ready", 3);
+        assertEventCount(data, "negative-durations", 0);
+
+        // invocation fields
+        Assert.assertEquals(data.getString("name:" + SuccessfulReadiness.class.getName()), "successful-check");
+        Assert.assertEquals(data.getString("kinds:" + SuccessfulReadiness.class.getName()), "readiness");
+        Assert.assertFalse(data.containsKey("failure:" + SuccessfulReadiness.class.getName()),
+                "Expected no failure for a response provided by the procedure");
+
+        String synthesizedName = data.getString("name:" + ThrowingReadiness.class.getName());
+        Assert.assertTrue(synthesizedName.startsWith(ThrowingReadiness.class.getName()),
+                "Expected the name of the synthesized response, but got " + synthesizedName);
+        Assert.assertEquals(data.getString("kinds:" + ThrowingReadiness.class.getName()), "readiness");
+        Assert.assertEquals(data.getString("failure:" + ThrowingReadiness.class.getName()),
+                IllegalStateException.class.getName());
+    }
+
+    private void assertEventCount(JsonObject data, String key, long expected) {
+        Assert.assertTrue(data.containsKey(key), "Expected events for " + key);
+        Assert.assertEquals(data.getJsonNumber(key).longValue(), expected, "Unexpected number of events for " + key);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package org.eclipse.microprofile.health.tck;
+
+import static org.eclipse.microprofile.health.tck.DeploymentUtils.createWarFileWithClasses;
+
+import org.eclipse.microprofile.health.tck.deployment.NamedProcedures;
+import org.eclipse.microprofile.health.tck.deployment.SuccessfulReadiness;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.Archive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+
+public class HealthCheckNameTest extends TCKBase {
+
+    @Deployment
+    public static Archive getDeployment() {
+        return createWarFileWithClasses(HealthCheckNameTest.class.getSimpleName(), NamedProcedures.class,
+                SuccessfulReadiness.class);
+    }
+
+    /**
+     * Verifies that the single procedure endpoint invokes only the procedure declaring the requested name
+     */
+    @Test
+    @RunAsClient
+    public void testSuccessfulCheckEndpoint() {
+        getUrlCheckContents("named-check");
+        Response response = getUrlCheckContents("named-check");
+
+        // status code
+        Assert.assertEquals(response.getStatus(), 200);
+
+        JsonObject json = readJson(response);
+
+        // response size
+        JsonArray checks = json.getJsonArray("checks");
+        Assert.assertEquals(checks.size(), 1, "Expected a single check response");
+
+        // single procedure response
+        assertSuccessfulCheck(checks.getJsonObject(0), "named-check");
+        Assert.assertEquals(getInvocations(checks.getJsonObject(0)), 2,
+                "Expected the procedure to be invoked for each request");
+
+        assertOverallSuccess(json);
+
+        JsonObject other = readJson(getUrlCheckContents("other-named-check")).getJsonArray("checks").getJsonObject(0);
+        Assert.assertEquals(getInvocations(other), 1,
+                "Expected the other procedure to be invoked only for its own request");
+    }
+
+    /**
+     * Verifies the failed status of the single procedure endpoint of a failing procedure, whatever its kind
+     */
+    @Test
+    @RunAsClient
+    public void testFailedCheckEndpoint() {
+        Response response = getUrlCheckContents("named-failed-check");
+
+        // status code
+        Assert.assertEquals(response.getStatus(), 503);
+
+        JsonObject json = readJson(response);
+
+        // response size
+        JsonArray checks = json.getJsonArray("checks");
+        Assert.assertEquals(checks.size(), 1, "Expected a single check response");
+
+        // single procedure response
+        assertFailureCheck(checks.getJsonObject(0), "named-failed-check");
+
+        assertOverallFailure(json);
+    }
+
+    /**
+     * Verifies that names which are not declared are not found, even when a procedure provides a response with this
+     * name
+     */
+    @Test
+    @RunAsClient
+    public void testUndeclaredName() {
+        // status code
+        Assert.assertEquals(getUrlCheckContents("unknown-check").getStatus(), 404);
+        Assert.assertEquals(getUrlCheckContents("successful-check").getStatus(), 404);
+    }
+}
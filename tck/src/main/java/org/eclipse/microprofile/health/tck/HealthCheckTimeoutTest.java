@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package org.eclipse.microprofile.health.tck;
+
+import static org.eclipse.microprofile.health.tck.DeploymentUtils.createWarFileWithClasses;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.health.tck.deployment.SuccessfulReadiness;
+import org.eclipse.microprofile.health.tck.deployment.TimedOutReadiness;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.Archive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+
+public class HealthCheckTimeoutTest extends TCKBase {
+
+    @Deployment
+    public static Archive getDeployment() {
+        return createWarFileWithClasses(HealthCheckTimeoutTest.class.getSimpleName(),
+                SuccessfulReadiness.class, TimedOutReadiness.class);
+    }
+
+    /**
+     * Verifies that a procedure exceeding the timeout defined with {@code @HealthCheckTimeout} is abandoned and
+     * reported with a synthesized DOWN response without delaying the whole response
+     */
+    @Test
+    @RunAsClient
+    public void testTimedOutResponsePayload() {
+        long start = System.nanoTime();
+        Response response = getUrlReadyContents();
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // the procedure sleeps for 10 seconds with a 500 milliseconds timeout
+        Assert.assertTrue(elapsed < 5_000,
+                String.format("Expected the timed out procedure to be abandoned, but the response took %d ms",
+                        elapsed));
+
+        // status code
+        Assert.assertEquals(response.getStatus(), 503);
+
+        JsonObject json = readJson(response);
+
+        // response size
+        JsonArray checks = json.getJsonArray("checks");
+        Assert.assertEquals(checks.size(), 2, "Expected two check responses");
+
+        // verify that both procedures are present
+        for (JsonObject check : checks.getValuesAs(JsonObject.class)) {
+            String id = check.getString("name");
+            if (id.equals("successful-check")) {
+                verifySuccessStatus(check);
+            } else {
+                assertSynthesizedFailureCheck(check, TimedOutReadiness.class);
+            }
+        }
+
+        assertOverallFailure(json);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package org.eclipse.microprofile.health.tck;
+
+import static org.eclipse.microprofile.health.tck.DeploymentUtils.createWarFileWithClasses;
+
+import org.eclipse.microprofile.health.tck.deployment.GroupProcedures;
+import org.eclipse.microprofile.health.tck.deployment.SuccessfulReadiness;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.Archive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+
+public class HealthGroupTest extends TCKBase {
+
+    @Deployment
+    public static Archive getDeployment() {
+        return createWarFileWithClasses(HealthGroupTest.class.getSimpleName(), GroupProcedures.class,
+                SuccessfulReadiness.class);
+    }
+
+    /**
+     * Verifies that a group endpoint invokes only the procedures of the requested group
+     */
+    @Test
+    @RunAsClient
+    public void testGroupEndpoints() {
+        getGroupChecks("database");
+        JsonArray database = getGroupChecks("database");
+
+        // response size
+        Assert.assertEquals(database.size(), 2, "Expected two check responses");
+
+        // group procedures responses
+        assertSuccessfulCheck(database.getJsonObject(0), "database-check");
+        assertSuccessfulCheck(database.getJsonObject(1), "shared-check");
+        Assert.assertEquals(getInvocations(database.getJsonObject(0)), 2,
+                "Expected the database procedure to be invoked for each database group request");
+        Assert.assertEquals(getInvocations(database.getJsonObject(1)), 2,
+                "Expected the shared procedure to be invoked for each database group request");
+
+        JsonArray cache = getGroupChecks("cache");
+
+        // response size
+        Assert.assertEquals(cache.size(), 2, "Expected two check responses");
+
+        // group procedures responses
+        assertSuccessfulCheck(cache.getJsonObject(0), "cache-check");
+        assertSuccessfulCheck(cache.getJsonObject(1), "shared-check");
+        Assert.assertEquals(getInvocations(cache.getJsonObject(0)), 1,
+                "Expected the cache procedure to be invoked only for the cache group request");
+        Assert.assertEquals(getInvocations(cache.getJsonObject(1)), 3,
+                "Expected the shared procedure to be invoked for the requests of both groups");
+    }
+
+    /**
+     * Verifies the failed status of a group with a failing procedure
+     */
+    @Test
+    @RunAsClient
+    public void testFailedGroup() {
+        Response response = getUrlGroupContents("messaging");
+
+        // status code
+        Assert.assertEquals(response.getStatus(), 503);
+
+        JsonObject json = readJson(response);
+
+        // response size
+        JsonArray checks = json.getJsonArray("checks");
+        Assert.assertEquals(checks.size(), 1, "Expected a single check response");
+
+        // single procedure response
+        assertFailureCheck(checks.getJsonObject(0), "failed-group-check");
+
+        assertOverallFailure(json);
+    }
+
+    /**
+     * Verifies that a group without any procedure is not found
+     */
+    @Test
+    @RunAsClient
+    public void testUnknownGroup() {
+        Response response = getUrlGroupContents("unknown");
+
+        // status code
+        Assert.assertEquals(response.getStatus(), 404);
+    }
+
+    /**
+     * Verifies that the group only procedures are not invoked for the readiness and overall endpoints
+     */
+    @Test
+    @RunAsClient
+    public void testGroupProceduresExcluded() {
+        assertOnlySuccessfulReadiness(getUrlReadyContents());
+        assertOnlySuccessfulReadiness(getUrlHealthContents());
+    }
+
+    private JsonArray getGroupChecks(String group) {
+        Response response = getUrlGroupContents(group);
+
+        // status code
+        Assert.assertEquals(response.getStatus(), 200);
+
+        JsonObject json = readJson(response);
+        assertOverallSuccess(json);
+
+        return json.getJsonArray("checks");
+    }
+
+    private void assertOnlySuccessfulReadiness(Response response) {
+        // status code
+        Assert.assertEquals(response.getStatus(), 200);
+
+        JsonObject json = readJson(response);
+
+        // response size
+        JsonArray checks = json.getJsonArray("checks");
+        Assert.assertEquals(checks.size(), 1, "Expected a single check response");
+
+        // single procedure response
+        assertSuccessfulCheck(checks.getJsonObject(0), "successful-check");
+
+        assertOverallSuccess(json);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package org.eclipse.microprofile.health.tck;
+
+import static org.eclipse.microprofile.health.tck.DeploymentUtils.createWarFileWithClasses;
+
+import org.eclipse.microprofile.health.tck.deployment.IndicatorReadiness;
+import org.eclipse.microprofile.health.tck.deployment.IndicatorSwitchLiveness;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.Archive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+
+public class HealthIndicatorTest extends TCKBase {
+
+    @Deployment
+    public static Archive getDeployment() {
+        return createWarFileWithClasses(HealthIndicatorTest.class.getSimpleName(), IndicatorReadiness.class,
+                IndicatorSwitchLiveness.class);
+    }
+
+    /**
+     * Verifies that a produced {@code HealthIndicator} is discovered as a procedure and reports the latest status set
+     * by the application
+     */
+    @Test
+    @RunAsClient
+    public void testIndicatorUpdates() {
+        // initially DOWN
+        assertFailureCheck(getIndicatorCheck(503), "indicator-check");
+
+        // set UP with data
+        flip();
+        JsonObject check = getIndicatorCheck(200);
+        assertSuccessfulCheck(check, "indicator-check");
+        Assert.assertEquals(check.getJsonObject("data").getJsonNumber("flips").longValue(), 1,
+                "Expected the data of the response set on the indicator");
+
+        // set DOWN
+        flip();
+        check = getIndicatorCheck(503);
+        assertFailureCheck(check, "indicator-check");
+        Assert.assertFalse(check.containsKey("data") && check.getJsonObject("data").containsKey("flips"),
+                "Expected the precomputed response without data");
+    }
+
+    private void flip() {
+        // status code
+        Assert.assertEquals(getUrlLiveContents().getStatus(), 200);
+    }
+
+    private JsonObject getIndicatorCheck(int expectedStatus) {
+        Response response = getUrlReadyContents();
+
+        // status code
+        Assert.assertEquals(response.getStatus(), expectedStatus);
+
+        JsonObject json = readJson(response);
+
+        // response size
+        JsonArray checks = json.getJsonArray("checks");
+        Assert.assertEquals(checks.size(), 1, "Expected a single check response");
+
+        return checks.getJsonObject(0);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package org.eclipse.microprofile.health.tck;
+
+import static org.eclipse.microprofile.health.tck.DeploymentUtils.createWarFileWithClasses;
+
+import org.eclipse.microprofile.health.tck.deployment.ReadinessStatusObserver;
+import org.eclipse.microprofile.health.tck.deployment.SuccessfulReadiness;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.Archive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import jakarta.json.JsonObject;
+
+public class HealthStatusPublisherTest extends TCKBase {
+
+    @Deployment
+    public static Archive getDeployment() {
+        return createWarFileWithClasses(HealthStatusPublisherTest.class.getSimpleName(), SuccessfulReadiness.class,
+                ReadinessStatusObserver.class);
+    }
+
+    /**
+     * Verifies that a subscriber to the readiness {@code HealthStatusPublisher} receives the status once while it does
+     * not change
+     */
+    @Test
+    @RunAsClient
+    public void testPublisherEmitsOnlyOnChange() {
+        for (int i = 0; i < 3; i++) {
+            Response response = getUrlReadyContents();
+
+            // status code
+            Assert.assertEquals(response.getStatus(), 200);
+        }
+
+        // the statuses are delivered asynchronously
+        JsonObject data = getReceivedData(1);
+        Assert.assertEquals(data.getJsonNumber("received").longValue(), 1,
+                "Expected the subscriber to receive a single status");
+        Assert.assertEquals(data.getString("last-status"), "UP", "Expected the last status to be UP");
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package org.eclipse.microprofile.health.tck;
+
+import static org.eclipse.microprofile.health.tck.DeploymentUtils.createWarFileWithClasses;
+
+import java.util.List;
+
+import org.eclipse.microprofile.health.tck.deployment.FlippingReadiness;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+
+public class HealthStreamTest extends TCKBase {
+
+    @Deployment
+    public static Archive getDeployment() {
+        return createWarFileWithClasses(HealthStreamTest.class.getSimpleName(), FlippingReadiness.class)
+                .addAsManifestResource(new StringAsset("mp.health.stream.enabled=true\n" +
+                        "mp.health.stream.interval=500"),
+                        "microprofile-config.properties");
+    }
+
+    /**
+     * Verifies that the readiness stream sends the full payload on subscription and an event with the changed check
+     * when the check flips
+     */
+    @Test
+    @RunAsClient
+    public void testReadinessStreamEvents() {
+        List<String> events = getUrlEvents("/health/ready/stream", 2, 10_000);
+        Assert.assertEquals(events.size(), 2, "Expected the initial event and a status change event");
+
+        JsonObject initial = readJson(events.get(0));
+        JsonArray initialChecks = initial.getJsonArray("checks");
+        Assert.assertEquals(initialChecks.size(), 1, "Expected a single check in the initial event");
+        Assert.assertEquals(initialChecks.getJsonObject(0).getString("name"), "flipping-check");
+
+        JsonObject change = readJson(events.get(1));
+        JsonArray changedChecks = change.getJsonArray("checks");
+        Assert.assertEquals(changedChecks.size(), 1, "Expected the flipped check in the change event");
+
+        JsonObject changed = changedChecks.getJsonObject(0);
+        Assert.assertEquals(changed.getString("name"), "flipping-check");
+        Assert.assertNotEquals(changed.getString("status"), initialChecks.getJsonObject(0).getString("status"),
+                "Expected the change event to carry the flipped status");
+        Assert.assertEquals(change.getString("status"), changed.getString("status"),
+                "Expected the overall status to follow the single check");
+    }
+}
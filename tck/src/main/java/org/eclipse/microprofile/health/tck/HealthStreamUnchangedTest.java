@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package org.eclipse.microprofile.health.tck;
+
+import static org.eclipse.microprofile.health.tck.DeploymentUtils.createWarFileWithClasses;
+
+import java.util.List;
+
+import org.eclipse.microprofile.health.tck.deployment.SuccessfulLiveness;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+
+public class HealthStreamUnchangedTest extends TCKBase {
+
+    @Deployment
+    public static Archive getDeployment() {
+        return createWarFileWithClasses(HealthStreamUnchangedTest.class.getSimpleName(), SuccessfulLiveness.class)
+                .addAsManifestResource(new StringAsset("mp.health.stream.enabled=true\n" +
+                        "mp.health.stream.interval=500"),
+                        "microprofile-config.properties");
+    }
+
+    /**
+     * Verifies that the liveness stream sends the full payload on subscription and no further event while the status
+     * does not change
+     */
+    @Test
+    @RunAsClient
+    public void testLivenessStreamWithoutChanges() {
+        // several evaluation intervals elapse within the timeout
+        List<String> events = getUrlEvents("/health/live/stream", 2, 3_000);
+        Assert.assertEquals(events.size(), 1, "Expected only the initial event");
+
+        JsonObject json = readJson(events.get(0));
+
+        // response size
+        JsonArray checks = json.getJsonArray("checks");
+        Assert.assertEquals(checks.size(), 1, "Expected a single check response");
+
+        // single procedure response
+        assertSuccessfulCheck(checks.getJsonObject(0), "successful-check");
+
+        assertOverallSuccess(json);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package org.eclipse.microprofile.health.tck;
+
+import static org.eclipse.microprofile.health.tck.DeploymentUtils.createWarFileWithClasses;
+
+import org.eclipse.microprofile.health.tck.deployment.CheckWithAttributes;
+import org.eclipse.microprofile.health.tck.deployment.SuccessfulLiveness;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.Archive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+
+public class JsonDataSchemaValidationTest extends TCKBase {
+
+    @Deployment
+    public static Archive getDeployment() {
+        return createWarFileWithClasses(JsonDataSchemaValidationTest.class.getSimpleName(),
+                SuccessfulLiveness.class, CheckWithAttributes.class);
+    }
+
+    /**
+     * Verifies that the response body, including the data of the checks, is following the JSON schema defined by the
+     * specification as written by the implementation, i.e. without being parsed into and serialized from an
+     * intermediate JSON object tree
+     */
+    @Test
+    @RunAsClient
+    public void testPayloadWithDataVerifiesWithTheSpecificationSchema() throws Exception {
+        Response response = getUrlHealthContents();
+
+        Assert.assertEquals(response.getStatus(), 200);
+
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode schemaJson = mapper.readTree(Thread.currentThread()
+                .getContextClassLoader().getResourceAsStream("health-check-schema.json"));
+
+        final JsonSchemaFactory factory = JsonSchemaFactory.byDefault();
+        final JsonSchema schema = factory.getJsonSchema(schemaJson);
+
+        JsonNode json = mapper.readTree(response.getBody().get());
+        Assert.assertNotNull(json.path("checks").findValue("data"), "Expected a check response with data");
+
+        ProcessingReport report = schema.validate(json);
+        Assert.assertTrue(report.isSuccess(),
+                "Returned Health JSON does not validate against the specification schema");
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package org.eclipse.microprofile.health.tck;
+
+import static org.eclipse.microprofile.health.tck.DeploymentUtils.createWarFileWithClasses;
+
+import java.net.URI;
+
+import org.eclipse.microprofile.health.tck.deployment.SuccessfulLiveness;
+import org.eclipse.microprofile.health.tck.deployment.SuccessfulReadiness;
+import org.eclipse.microprofile.health.tck.deployment.SuccessfulStartup;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+
+/**
+ * The management listener is only exercised when the {@value #MANAGEMENT_PORT} system property provides the port it
+ * binds, the test being skipped otherwise.
+ */
+public class ManagementListenerTest extends TCKBase {
+
+    private static final String MANAGEMENT_PORT = "mp.health.tck.management.port";
+
+    @Deployment
+    public static Archive getDeployment() {
+        WebArchive archive = createWarFileWithClasses(ManagementListenerTest.class.getSimpleName(),
+                SuccessfulLiveness.class, SuccessfulReadiness.class, SuccessfulStartup.class);
+        String port = System.getProperty(MANAGEMENT_PORT);
+        if (port != null) {
+            archive.addAsManifestResource(new StringAsset("mp.health.management.port=" + port),
+                    "microprofile-config.properties");
+        }
+        return archive;
+    }
+
+    /**
+     * Verifies that the management listener serves every health endpoint with the same responses as the application
+     * HTTP listener
+     */
+    @Test
+    @RunAsClient
+    public void testManagementEndpoints() {
+        String port = System.getProperty(MANAGEMENT_PORT);
+        if (port == null) {
+            throw new SkipException("The " + MANAGEMENT_PORT + " system property does not provide a management port");
+        }
+
+        URI uri = getUri();
+        URI managementUri = URI.create(uri.getScheme() + "://" + uri.getHost() + ":" + port);
+        Assert.assertNotEquals(managementUri.getPort(), uri.getPort(),
+                "Expected the management listener to bind another port than the application HTTP listener");
+
+        assertSameResponse(managementUri, "/health/live", getUrlLiveContents(), 1);
+        assertSameResponse(managementUri, "/health/ready", getUrlReadyContents(), 1);
+        assertSameResponse(managementUri, "/health/started", getUrlStartedContents(), 1);
+        assertSameResponse(managementUri, "/health", getUrlHealthContents(), 3);
+    }
+
+    private void assertSameResponse(URI managementUri, String path, Response expected, int expectedChecks) {
+        Response response = getUrlContents(managementUri, path);
+
+        // status code
+        Assert.assertEquals(response.getStatus(), 200);
+        Assert.assertEquals(response.getStatus(), expected.getStatus());
+
+        JsonObject json = readJson(response);
+
+        // response size
+        JsonArray checks = json.getJsonArray("checks");
+        Assert.assertEquals(checks.size(), expectedChecks, "Unexpected number of check responses for " + path);
+
+        assertOverallSuccess(json);
+
+        Assert.assertEquals(json, readJson(expected),
+                "Expected the management listener to serve the same response for " + path);
+    }
+}
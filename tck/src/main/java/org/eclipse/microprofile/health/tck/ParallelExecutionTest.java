@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package org.eclipse.microprofile.health.tck;
+
+import static org.eclipse.microprofile.health.tck.DeploymentUtils.createWarFileWithClasses;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.health.tck.deployment.DelayedProcedures;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+
+public class ParallelExecutionTest extends TCKBase {
+
+    @Deployment
+    public static Archive getDeployment() {
+        return createWarFileWithClasses(ParallelExecutionTest.class.getSimpleName(), DelayedProcedures.class)
+                .addAsManifestResource(new StringAsset("mp.health.execution.parallelism=3"),
+                        "microprofile-config.properties");
+    }
+
+    /**
+     * Verifies that with "mp.health.execution.parallelism" defined the procedures of a single request are executed
+     * concurrently and the response content does not depend on their completion order
+     */
+    @Test
+    @RunAsClient
+    public void testParallelResponsePayload() {
+        List<String> previousNames = null;
+
+        for (int i = 0; i < 2; i++) {
+            long start = System.nanoTime();
+            Response response = getUrlReadyContents();
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            // three procedures each sleeping for DELAY, the sequential execution would take three times as long
+            Assert.assertTrue(elapsed < 2 * DelayedProcedures.DELAY,
+                    String.format("Expected the procedures to be executed concurrently, but the response took %d ms",
+                            elapsed));
+
+            // status code
+            Assert.assertEquals(response.getStatus(), 200);
+
+            JsonObject json = readJson(response);
+
+            // response size
+            JsonArray checks = json.getJsonArray("checks");
+            Assert.assertEquals(checks.size(), 3, "Expected three check responses");
+
+            List<String> names = new ArrayList<>();
+            for (JsonObject check : checks.getValuesAs(JsonObject.class)) {
+                verifySuccessStatus(check);
+                names.add(check.getString("name"));
+            }
+
+            if (previousNames != null) {
+                Assert.assertEquals(names, previousNames,
+                        "Expected the order of the checks not to depend on the completion order");
+            }
+            previousNames = names;
+
+            assertOverallSuccess(json);
+        }
+    }
+}
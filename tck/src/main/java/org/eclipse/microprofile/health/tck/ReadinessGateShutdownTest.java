@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package org.eclipse.microprofile.health.tck;
+
+import static org.eclipse.microprofile.health.tck.DeploymentUtils.createWarFileWithClasses;
+
+import org.eclipse.microprofile.health.tck.deployment.GateShutdownObserver;
+import org.eclipse.microprofile.health.tck.deployment.GateShutdownReport;
+import org.eclipse.microprofile.health.tck.deployment.SuccessfulReadiness;
+import org.jboss.arquillian.container.test.api.Deployer;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.shrinkwrap.api.Archive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+
+/**
+ * The application under shutdown records the state of its readiness gate in a system property, which is reported by the
+ * default deployment running in the same runtime.
+ */
+public class ReadinessGateShutdownTest extends TCKBase {
+
+    private static final String SHUTDOWN_DEPLOYMENT = "shutdown";
+
+    @ArquillianResource
+    private Deployer deployer;
+
+    @Deployment
+    public static Archive getDeployment() {
+        return createWarFileWithClasses(ReadinessGateShutdownTest.class.getSimpleName(), GateShutdownReport.class);
+    }
+
+    @Deployment(name = SHUTDOWN_DEPLOYMENT, managed = false)
+    public static Archive getShutdownDeployment() {
+        return createWarFileWithClasses(ReadinessGateShutdownTest.class.getSimpleName() + "Shutdown",
+                GateShutdownObserver.class, SuccessfulReadiness.class);
+    }
+
+    /**
+     * Verifies that the runtime closes the readiness gate when the shutdown of an application begins, before the
+     * application contexts are destroyed
+     */
+    @Test
+    @RunAsClient
+    public void testGateClosedAtShutdown() {
+        deployer.deploy(SHUTDOWN_DEPLOYMENT);
+        deployer.undeploy(SHUTDOWN_DEPLOYMENT);
+
+        Response response = getUrlLiveContents();
+
+        // status code
+        Assert.assertEquals(response.getStatus(), 200);
+
+        JsonObject json = readJson(response);
+
+        // response size
+        JsonArray checks = json.getJsonArray("checks");
+        Assert.assertEquals(checks.size(), 1, "Expected a single check response");
+
+        // single procedure response
+        assertSuccessfulCheck(checks.getJsonObject(0), "gate-shutdown-report");
+        Assert.assertEquals(checks.getJsonObject(0).getJsonObject("data").getString("open-before-destroyed"), "false",
+                "Expected the readiness gate to be closed before the application contexts are destroyed");
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package org.eclipse.microprofile.health.tck;
+
+import static org.eclipse.microprofile.health.tck.DeploymentUtils.createWarFileWithClasses;
+
+import org.eclipse.microprofile.health.tck.deployment.CountingReadiness;
+import org.eclipse.microprofile.health.tck.deployment.GateSwitchLiveness;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.Archive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+
+public class ReadinessGateTest extends TCKBase {
+
+    @Deployment
+    public static Archive getDeployment() {
+        return createWarFileWithClasses(ReadinessGateTest.class.getSimpleName(), CountingReadiness.class,
+                GateSwitchLiveness.class);
+    }
+
+    /**
+     * Verifies that a closed {@code ReadinessGate} overrides the successful readiness procedures without invoking them
+     */
+    @Test
+    @RunAsClient
+    public void testClosedGate() {
+        assertCountingCheck(1);
+
+        // close the gate
+        switchGate(false);
+
+        Response response = getUrlReadyContents();
+
+        // status code
+        Assert.assertEquals(response.getStatus(), 503);
+
+        JsonObject json = readJson(response);
+
+        // response size
+        JsonArray checks = json.getJsonArray("checks");
+        Assert.assertEquals(checks.size(), 0, "Expected no check response while the gate is closed");
+
+        assertOverallFailure(json);
+
+        // open the gate
+        switchGate(true);
+
+        assertCountingCheck(2);
+    }
+
+    private void switchGate(boolean expectedOpen) {
+        Response response = getUrlLiveContents();
+
+        // status code
+        Assert.assertEquals(response.getStatus(), 200);
+
+        JsonObject check = readJson(response).getJsonArray("checks").getJsonObject(0);
+        Assert.assertEquals(check.getJsonObject("data").getBoolean("open"), expectedOpen);
+    }
+
+    private void assertCountingCheck(long expectedInvocations) {
+        Response response = getUrlReadyContents();
+
+        // status code
+        Assert.assertEquals(response.getStatus(), 200);
+
+        JsonObject json = readJson(response);
+
+        // response size
+        JsonArray checks = json.getJsonArray("checks");
+        Assert.assertEquals(checks.size(), 1, "Expected a single check response");
+
+        // single procedure response
+        assertSuccessfulCheck(checks.getJsonObject(0), "counting-check");
+        Assert.assertEquals(getInvocations(checks.getJsonObject(0)), expectedInvocations,
+                "Expected the procedure not to be invoked while the gate is closed");
+
+        assertOverallSuccess(json);
+    }
+}
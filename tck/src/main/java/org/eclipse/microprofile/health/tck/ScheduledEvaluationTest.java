@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package org.eclipse.microprofile.health.tck;
+
+import static org.eclipse.microprofile.health.tck.DeploymentUtils.createWarFileWithClasses;
+
+import org.eclipse.microprofile.health.tck.deployment.CountingReadiness;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+
+public class ScheduledEvaluationTest extends TCKBase {
+
+    @Deployment
+    public static Archive getDeployment() {
+        return createWarFileWithClasses(ScheduledEvaluationTest.class.getSimpleName(), CountingReadiness.class)
+                .addAsManifestResource(new StringAsset("mp.health.evaluation.mode=scheduled\n" +
+                        "mp.health.readiness.evaluation.interval=3600000"),
+                        "microprofile-config.properties");
+    }
+
+    /**
+     * Verifies that in the scheduled evaluation mode the requests are served from the latest execution of the
+     * procedures without invoking them again
+     */
+    @Test
+    @RunAsClient
+    public void testScheduledResponsePayload() throws InterruptedException {
+        // wait for the first background execution to complete
+        Response response = getUrlReadyContents();
+        for (int i = 0; i < 50 && response.getStatus() != 200; i++) {
+            Thread.sleep(200);
+            response = getUrlReadyContents();
+        }
+
+        for (int i = 0; i < 3; i++) {
+            // status code
+            Assert.assertEquals(response.getStatus(), 200);
+
+            JsonObject json = readJson(response);
+
+            // response size
+            JsonArray checks = json.getJsonArray("checks");
+            Assert.assertEquals(checks.size(), 1, "Expected a single check response");
+
+            // single procedure response
+            assertSuccessfulCheck(checks.getJsonObject(0), "counting-check");
+            Assert.assertEquals(getInvocations(checks.getJsonObject(0)), 1,
+                    "Expected the procedure to be executed once within the evaluation interval");
+
+            assertOverallSuccess(json);
+
+            response = getUrlReadyContents();
+        }
+    }
+}
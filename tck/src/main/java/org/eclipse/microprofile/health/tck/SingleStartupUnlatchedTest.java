@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package org.eclipse.microprofile.health.tck;
+
+import static org.eclipse.microprofile.health.tck.DeploymentUtils.createWarFileWithClasses;
+
+import org.eclipse.microprofile.health.tck.deployment.CountingStartup;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class SingleStartupUnlatchedTest extends TCKBase {
+
+    @Deployment
+    public static Archive getDeployment() {
+        return createWarFileWithClasses(SingleStartupUnlatchedTest.class.getSimpleName(), CountingStartup.class)
+                .addAsManifestResource(new StringAsset("mp.health.startup.latch.enabled=false"),
+                        "microprofile-config.properties");
+    }
+
+    /**
+     * Verifies that with "mp.health.startup.latch.enabled" set to false the startup procedures are invoked for every
+     * request
+     */
+    @Test
+    @RunAsClient
+    public void testStartupWithoutLatch() {
+        for (long i = 1; i <= CountingStartup.FAILURES + 3; i++) {
+            Assert.assertEquals(getInvocations(getUrlStartedContents(), i > CountingStartup.FAILURES ? 200 : 503,
+                    CountingStartup.NAME), i,
+                    "Expected the procedure to be invoked for every request");
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017-2021 Contributors to the Eclipse Foundation
+ * Copyright (c) 2017-2026 Contributors to the Eclipse Foundation
  *
  * See the NOTICES file(s) distributed with this work for additional
  * information regarding copyright ownership.
@@ -23,20 +23,35 @@
 package org.eclipse.microprofile.health.tck;
 
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.StringReader;
 import java.lang.reflect.Method;
+import java.net.SocketTimeoutException;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Logger;
 
+import org.apache.http.Header;
 import org.apache.http.HttpResponse;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.CredentialsProvider;
 import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.impl.client.BasicCredentialsProvider;
+import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.jboss.arquillian.test.api.ArquillianResource;
 import org.jboss.arquillian.testng.Arquillian;
@@ -44,6 +59,7 @@ import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 
 import jakarta.json.Json;
+import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonReader;
 
@@ -63,6 +79,10 @@ public abstract class TCKBase extends Arquillian {
         LOG.info(String.format("Running test: %s#%s", method.getDeclaringClass().getSimpleName(), method.getName()));
     }
 
+    URI getUri() {
+        return uri;
+    }
+
     Response getUrlHealthContents() {
         return getUrlContents(this.uri + "/health", false);
     }
@@ -79,13 +99,31 @@ public abstract class TCKBase extends Arquillian {
         return getUrlContents(this.uri + "/health/started", false);
     }
 
+    Response getUrlGroupContents(String group) {
+        return getUrlContents(this.uri + "/health/group/" + group, false);
+    }
+
+    Response getUrlCheckContents(String name) {
+        return getUrlContents(this.uri + "/health/check/" + name, false);
+    }
+
+    Response getUrlContents(URI root, String path) {
+        return getUrlContents(root + path, false);
+    }
+
+    Response getUrlContents(String path, Map<String, String> requestHeaders) {
+        return getUrlContents(this.uri + path, false, true, requestHeaders);
+    }
+
     private Response getUrlContents(String theUrl, boolean useAuth) {
-        return getUrlContents(theUrl, useAuth, true);
+        return getUrlContents(theUrl, useAuth, true, Collections.emptyMap());
     }
 
-    private Response getUrlContents(String theUrl, boolean useAuth, boolean followRedirects) {
+    private Response getUrlContents(String theUrl, boolean useAuth, boolean followRedirects,
+            Map<String, String> requestHeaders) {
 
         StringBuilder content = new StringBuilder();
+        Map<String, String> headers = new HashMap<>();
         int code;
 
         try {
@@ -104,9 +142,16 @@ public abstract class TCKBase extends Arquillian {
 
             HttpClient client = builder.build();
 
-            HttpResponse response = client.execute(new HttpGet(theUrl));
+            HttpGet request = new HttpGet(theUrl);
+            requestHeaders.forEach(request::addHeader);
+
+            HttpResponse response = client.execute(request);
             code = response.getStatusLine().getStatusCode();
 
+            for (Header header : response.getAllHeaders()) {
+                headers.putIfAbsent(header.getName().toLowerCase(), header.getValue());
+            }
+
             if (response.getEntity() != null) {
 
                 BufferedReader bufferedReader = new BufferedReader(
@@ -124,11 +169,109 @@ public abstract class TCKBase extends Arquillian {
             throw new RuntimeException(e);
         }
 
-        return new Response(code, content.toString());
+        return new Response(code, content.toString(), headers);
+    }
+
+    /**
+     * Sends concurrent requests to the given endpoints, all the requests being released at the same time.
+     *
+     * @param paths
+     *            the paths of the endpoints, one request is sent for each path
+     * @return the responses, in the order of the paths
+     */
+    List<Response> getUrlContentsConcurrently(List<String> paths) {
+        ExecutorService executor = Executors.newFixedThreadPool(paths.size());
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<Response>> futures = new ArrayList<>();
+            for (String path : paths) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return getUrlContents(this.uri + path, false);
+                }));
+            }
+            start.countDown();
+
+            List<Response> responses = new ArrayList<>();
+            for (Future<Response> future : futures) {
+                responses.add(future.get());
+            }
+            return responses;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Subscribes to a Server-Sent Events endpoint and collects the data of the received events.
+     *
+     * @param path
+     *            the path of the endpoint
+     * @param maxEvents
+     *            the number of events after which the subscription is closed
+     * @param timeoutMillis
+     *            the maximum time to wait for the next event before the subscription is closed
+     * @return the data of the received events, in the order they were received
+     */
+    List<String> getUrlEvents(String path, int maxEvents, int timeoutMillis) {
+        List<String> events = new ArrayList<>();
+
+        RequestConfig config = RequestConfig.custom().setSocketTimeout(timeoutMillis).build();
+        HttpGet request = new HttpGet(this.uri + path);
+        request.addHeader("Accept", "text/event-stream");
+
+        CloseableHttpClient client = HttpClientBuilder.create().setDefaultRequestConfig(config).build();
+
+        try {
+            HttpResponse response = client.execute(request);
+            Assert.assertEquals(response.getStatusLine().getStatusCode(), 200);
+
+            BufferedReader bufferedReader = new BufferedReader(
+                    new InputStreamReader(response.getEntity().getContent()));
+
+            StringBuilder data = new StringBuilder();
+            String line;
+
+            while (events.size() < maxEvents && (line = bufferedReader.readLine()) != null) {
+                if (line.startsWith("data:")) {
+                    if (data.length() > 0) {
+                        data.append("\n");
+                    }
+                    data.append(line.substring("data:".length()).trim());
+                } else if (line.isEmpty() && data.length() > 0) {
+                    events.add(data.toString());
+                    data.setLength(0);
+                }
+            }
+        } catch (SocketTimeoutException e) {
+            // no further event received within the timeout
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        } finally {
+            // the stream is infinite, don't try to consume the rest of it
+            request.abort();
+            try {
+                client.close();
+            } catch (IOException e) {
+                LOG.warning("Unable to close the HTTP client: " + e.getMessage());
+            }
+        }
+
+        return events;
     }
 
     JsonObject readJson(Response response) {
-        JsonReader jsonReader = Json.createReader(new StringReader(response.getBody().get()));
+        return readJson(response.getBody().get());
+    }
+
+    JsonObject readJson(String content) {
+        JsonReader jsonReader = Json.createReader(new StringReader(content));
         JsonObject json = jsonReader.readObject();
         System.out.println(json);
 
@@ -145,6 +288,87 @@ public abstract class TCKBase extends Arquillian {
         verifyFailureStatus(check);
     }
 
+    void assertSynthesizedFailureCheck(JsonObject check, Class<?> procedure) {
+        // the runtime class may be a container generated subclass or proxy of the procedure class
+        Assert.assertTrue(
+                check.getString("name").startsWith(procedure.getName()),
+                String.format("Expected a synthesized response named after the failing procedure '%s', " +
+                        "but got '%s'", procedure.getName(), check.getString("name")));
+        verifyFailureStatus(check);
+    }
+
+    long getInvocations(JsonObject check) {
+        return check.getJsonObject("data").getJsonNumber("invocations").longValue();
+    }
+
+    /**
+     * Reads the number of invocations reported by the single check of a response, asserting the status code of the
+     * response and the name of the check.
+     */
+    long getInvocations(Response response, int expectedStatus, String expectedName) {
+        // status code
+        Assert.assertEquals(response.getStatus(), expectedStatus);
+
+        JsonObject json = readJson(response);
+
+        // response size
+        JsonArray checks = json.getJsonArray("checks");
+        Assert.assertEquals(checks.size(), 1, "Expected a single check response");
+
+        // single procedure response
+        JsonObject check = checks.getJsonObject(0);
+        Assert.assertEquals(check.getString("name"), expectedName);
+
+        return getInvocations(check);
+    }
+
+    /**
+     * Reads the data of the single liveness check reporting the number of items it received asynchronously in its
+     * {@code received} data entry. The check is polled until the expected number is reached or a timeout elapses, and
+     * read again after a settle period so that an unexpected item delivered later is counted as well.
+     *
+     * @param expectedReceived
+     *            the number of items expected to be received
+     * @return the data of the check
+     */
+    JsonObject getReceivedData(long expectedReceived) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        JsonObject data = getSingleLivenessData();
+        while (data.getJsonNumber("received").longValue() < expectedReceived
+                && System.currentTimeMillis() < deadline) {
+            sleep(100);
+            data = getSingleLivenessData();
+        }
+
+        // settle period
+        sleep(1_000);
+        return getSingleLivenessData();
+    }
+
+    private JsonObject getSingleLivenessData() {
+        Response response = getUrlLiveContents();
+
+        // status code
+        Assert.assertEquals(response.getStatus(), 200);
+
+        JsonObject json = readJson(response);
+
+        // response size
+        JsonArray checks = json.getJsonArray("checks");
+        Assert.assertEquals(checks.size(), 1, "Expected a single check response");
+
+        return checks.getJsonObject(0).getJsonObject("data");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
     private void assertCheckName(JsonObject check, String expectedName) {
         Assert.assertEquals(
                 check.getString("name"),
@@ -184,8 +408,13 @@ public abstract class TCKBase extends Arquillian {
 
     public class Response {
         public Response(int status, String body) {
+            this(status, body, Collections.emptyMap());
+        }
+
+        public Response(int status, String body, Map<String, String> headers) {
             this.status = status;
             this.body = body;
+            this.headers = headers;
         }
 
         public int getStatus() {
@@ -196,8 +425,14 @@ public abstract class TCKBase extends Arquillian {
             return (body != null && !body.equals("")) ? Optional.of(body) : Optional.empty();
         }
 
+        public Optional<String> getHeader(String name) {
+            return Optional.ofNullable(headers.get(name.toLowerCase()));
+        }
+
         private int status;
 
         private String body;
+
+        private Map<String, String> headers;
     }
 }
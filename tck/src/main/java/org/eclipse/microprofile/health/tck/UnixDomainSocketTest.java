@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package org.eclipse.microprofile.health.tck;
+
+import static org.eclipse.microprofile.health.tck.DeploymentUtils.createWarFileWithClasses;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.eclipse.microprofile.health.tck.deployment.FailedReadiness;
+import org.eclipse.microprofile.health.tck.deployment.SuccessfulLiveness;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+
+/**
+ * The Unix domain socket client is created reflectively, as its API is only available from Java 16, and the test is
+ * skipped on older Java runtimes or when the implementation does not bind the socket.
+ */
+public class UnixDomainSocketTest extends TCKBase {
+
+    private static final Path SOCKET = Paths.get(System.getProperty("java.io.tmpdir"),
+            "mp-health-tck-" + UUID.randomUUID() + ".sock").toAbsolutePath();
+
+    @Deployment
+    public static Archive getDeployment() {
+        return createWarFileWithClasses(UnixDomainSocketTest.class.getSimpleName(), SuccessfulLiveness.class,
+                FailedReadiness.class)
+                .addAsManifestResource(new StringAsset("mp.health.uds.path=" + SOCKET),
+                        "microprofile-config.properties");
+    }
+
+    /**
+     * Verifies that the Unix domain socket serves the health endpoints with the same status codes and payloads as the
+     * REST/HTTP interaction
+     */
+    @Test
+    @RunAsClient
+    public void testUnixDomainSocketEndpoints() {
+        assertSameResponse("/health/live", getUrlLiveContents(), 200);
+        assertSameResponse("/health/ready", getUrlReadyContents(), 503);
+        assertSameResponse("/health", getUrlHealthContents(), 503);
+    }
+
+    private void assertSameResponse(String path, Response expected, int expectedStatus) {
+        Response response = getSocketContents(path);
+
+        // status code
+        Assert.assertEquals(response.getStatus(), expectedStatus);
+        Assert.assertEquals(response.getStatus(), expected.getStatus());
+
+        JsonObject json = readJson(response);
+
+        // response size
+        JsonArray checks = json.getJsonArray("checks");
+        Assert.assertEquals(checks.size(), readJson(expected).getJsonArray("checks").size(),
+                "Unexpected number of check responses for " + path);
+
+        Assert.assertEquals(json, readJson(expected),
+                "Expected the Unix domain socket to serve the same response for " + path);
+    }
+
+    private Response getSocketContents(String path) {
+        SocketAddress address;
+        ProtocolFamily unix;
+        try {
+            address = (SocketAddress) Class.forName("java.net.UnixDomainSocketAddress")
+                    .getMethod("of", Path.class)
+                    .invoke(null, SOCKET);
+            unix = StandardProtocolFamily.valueOf("UNIX");
+        } catch (ReflectiveOperationException | IllegalArgumentException e) {
+            throw new SkipException("Unix domain sockets are not supported by this Java runtime");
+        }
+        if (!Files.exists(SOCKET)) {
+            throw new SkipException("The implementation does not serve the health endpoints on a Unix domain socket");
+        }
+
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        try (SocketChannel channel = (SocketChannel) SocketChannel.class.getMethod("open", ProtocolFamily.class)
+                .invoke(null, unix)) {
+            channel.connect(address);
+
+            // HTTP/1.0 so that the producer closes the connection after the response
+            String request = "GET " + path + " HTTP/1.0\r\nHost: localhost\r\nAccept: application/json\r\n\r\n";
+            ByteBuffer out = ByteBuffer.wrap(request.getBytes(StandardCharsets.US_ASCII));
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+
+            ByteBuffer in = ByteBuffer.allocate(8192);
+            while (channel.read(in) != -1) {
+                in.flip();
+                content.write(in.array(), 0, in.limit());
+                in.clear();
+            }
+        } catch (IOException | ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+
+        String raw = content.toString(StandardCharsets.UTF_8);
+        int separator = raw.indexOf("\r\n\r\n");
+        Assert.assertTrue(separator > 0, "Expected an HTTP response from the Unix domain socket");
+
+        String[] lines = raw.substring(0, separator).split("\r\n");
+        int status = Integer.parseInt(lines[0].split(" ")[1]);
+        Map<String, String> headers = new HashMap<>();
+        for (int i = 1; i < lines.length; i++) {
+            int colon = lines[i].indexOf(':');
+            if (colon > 0) {
+                headers.put(lines[i].substring(0, colon).trim().toLowerCase(), lines[i].substring(colon + 1).trim());
+            }
+        }
+        return new Response(status, raw.substring(separator + 4), headers);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package org.eclipse.microprofile.health.tck;
+
+import static org.eclipse.microprofile.health.tck.DeploymentUtils.createWarFileWithClasses;
+
+import org.eclipse.microprofile.health.tck.deployment.VirtualThreadReadiness;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+
+public class VirtualThreadsTest extends TCKBase {
+
+    @Deployment
+    public static Archive getDeployment() {
+        return createWarFileWithClasses(VirtualThreadsTest.class.getSimpleName(), VirtualThreadReadiness.class)
+                .addAsManifestResource(new StringAsset("mp.health.execution.virtual-threads=true"),
+                        "microprofile-config.properties");
+    }
+
+    /**
+     * Verifies that with "mp.health.execution.virtual-threads" enabled the synchronous procedures are invoked on
+     * virtual threads when the runtime supports them
+     */
+    @Test
+    @RunAsClient
+    public void testVirtualThreadResponsePayload() {
+        Response response = getUrlReadyContents();
+
+        // status code
+        Assert.assertEquals(response.getStatus(), 200);
+
+        JsonObject json = readJson(response);
+
+        // response size
+        JsonArray checks = json.getJsonArray("checks");
+        Assert.assertEquals(checks.size(), 1, "Expected a single check response");
+
+        // single procedure response
+        JsonObject check = checks.getJsonObject(0);
+        assertSuccessfulCheck(check, "virtual-thread-check");
+
+        JsonObject data = check.getJsonObject("data");
+        if (data.getJsonNumber("java-version").intValue() >= 21) {
+            Assert.assertTrue(data.getBoolean("virtual"), "Expected the procedure to be invoked on a virtual thread");
+        }
+
+        assertOverallSuccess(json);
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+package org.eclipse.microprofile.health.tck.deployment;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Startup;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+// reports DOWN for its first FAILURES invocations and UP afterwards, counting its invocations
+@Startup
+@ApplicationScoped
+public class CountingStartup implements HealthCheck {
+
+    public static final String NAME = "counting-startup-check";
+
+    public static final long FAILURES = 2;
+
+    private final AtomicLong invocations = new AtomicLong();
+
+    @Override
+    public HealthCheckResponse call() {
+        long invocation = invocations.incrementAndGet();
+        return HealthCheckResponse.named(NAME)
+                .withData("invocations", invocation)
+                .status(invocation > FAILURES)
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+package org.eclipse.microprofile.health.tck.deployment;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Produces;
+
+@ApplicationScoped
+public class DelayedProcedures {
+
+    public static final long DELAY = 2_000;
+
+    @Produces
+    @Readiness
+    HealthCheck firstDelayedCheck() {
+        return () -> delayed("first-delayed-check");
+    }
+
+    @Produces
+    @Readiness
+    HealthCheck secondDelayedCheck() {
+        return () -> delayed("second-delayed-check");
+    }
+
+    @Produces
+    @Readiness
+    HealthCheck thirdDelayedCheck() {
+        return () -> delayed("third-delayed-check");
+    }
+
+    private static HealthCheckResponse delayed(String name) {
+        try {
+            Thread.sleep(DELAY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return HealthCheckResponse.up(name);
+    }
+}
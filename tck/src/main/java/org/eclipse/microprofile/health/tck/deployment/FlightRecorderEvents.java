@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+package org.eclipse.microprofile.health.tck.deployment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+// isolates the jdk.jfr API, this class is only loaded by FlightRecorderReport once the jdk.jfr module is known to exist
+public final class FlightRecorderEvents {
+
+    static final String INVOCATION_EVENT = "org.eclipse.microprofile.health.Invocation";
+
+    static final String EVALUATION_EVENT = "org.eclipse.microprofile.health.Evaluation";
+
+    private final Recording recording;
+
+    private FlightRecorderEvents(Recording recording) {
+        this.recording = recording;
+    }
+
+    /**
+     * @return a recorder of the health events started now, or {@code null} if the Flight Recorder is not available
+     */
+    static FlightRecorderEvents start() {
+        if (!FlightRecorder.isAvailable()) {
+            return null;
+        }
+        Recording recording = new Recording();
+        recording.enable(INVOCATION_EVENT);
+        recording.enable(EVALUATION_EVENT);
+        recording.start();
+        return new FlightRecorderEvents(recording);
+    }
+
+    /**
+     * Adds the health events recorded so far to the data of a response: the number of events keyed by event type,
+     * subject, source and status, the {@code name}, {@code kinds} and {@code failure} fields of the last invocation of
+     * each procedure, the {@code checks} field of the last evaluation of each endpoint, and the number of events with a
+     * negative duration.
+     */
+    void report(HealthCheckResponseBuilder builder) {
+        Map<String, Long> counts = new TreeMap<>();
+        Map<String, String> fields = new TreeMap<>();
+        long negativeDurations = 0;
+        try {
+            Path dump = Files.createTempFile("health", ".jfr");
+            try {
+                recording.dump(dump);
+                for (RecordedEvent recorded : RecordingFile.readAllEvents(dump)) {
+                    String type = recorded.getEventType().getName();
+                    if (INVOCATION_EVENT.equals(type)) {
+                        String procedure = recorded.getString("procedure");
+                        counts.merge("invocation:" + procedure + ":" + recorded.getString("source") + ":"
+                                + recorded.getString("status"), 1L, Long::sum);
+                        fields.put("name:" + procedure, recorded.getString("name"));
+                        fields.put("kinds:" + procedure, recorded.getString("kinds"));
+                        String failure = recorded.getString("failure");
+                        if (failure != null) {
+                            fields.put("failure:" + procedure, failure);
+                        }
+                    } else if (EVALUATION_EVENT.equals(type)) {
+                        String endpoint = recorded.getString("endpoint");
+                        counts.merge("evaluation:" + endpoint + ":" + recorded.getString("source") + ":"
+                                + recorded.getString("status"), 1L, Long::sum);
+                        counts.put("checks:" + endpoint, (long) recorded.getInt("checks"));
+                    }
+                    if (recorded.getDuration().isNegative()) {
+                        negativeDurations++;
+                    }
+                }
+            } finally {
+                Files.deleteIfExists(dump);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        counts.forEach(builder::withData);
+        fields.forEach(builder::withData);
+        builder.withData("negative-durations", negativeDurations);
+    }
+
+    void close() {
+        recording.close();
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+package org.eclipse.microprofile.health.tck.deployment;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
+import org.eclipse.microprofile.health.Liveness;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+
+// records the health events from startup and reports their count, keyed by event type, subject and source, along with
+// the fields of the last events
+// the jdk.jfr API is only used through FlightRecorderEvents, so that this bean can be deployed without it
+@Liveness
+@ApplicationScoped
+public class FlightRecorderReport implements HealthCheck {
+
+    private static final Logger LOG = Logger.getLogger(FlightRecorderReport.class.getName());
+
+    private FlightRecorderEvents events;
+
+    void start(@Observes @Initialized(ApplicationScoped.class) Object event) {
+        if (ModuleLayer.boot().findModule("jdk.jfr").isEmpty()) {
+            return;
+        }
+        try {
+            events = FlightRecorderEvents.start();
+        } catch (LinkageError e) {
+            // the jdk.jfr module is not visible from the deployment
+            LOG.log(Level.INFO, "The JDK Flight Recorder API is not available", e);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (events != null) {
+            events.close();
+        }
+    }
+
+    @Override
+    public HealthCheckResponse call() {
+        HealthCheckResponseBuilder builder = HealthCheckResponse.named("flight-recorder-report")
+                .withData("available", events != null);
+        if (events != null) {
+            events.report(builder);
+        }
+        return builder.up().build();
+    }
+}
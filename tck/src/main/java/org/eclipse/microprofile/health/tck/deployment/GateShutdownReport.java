@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+package org.eclipse.microprofile.health.tck.deployment;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Liveness;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+
+// reports the state of the readiness gate recorded by the GateShutdownObserver of another application
+@Liveness
+@ApplicationScoped
+public class GateShutdownReport implements HealthCheck {
+
+    public static final String PROPERTY = "mp.health.tck.readiness-gate.open-before-destroyed";
+
+    // a state recorded by a previous run in the same JVM must not be reported
+    static void initialized(@Observes @Initialized(ApplicationScoped.class) Object event) {
+        System.clearProperty(PROPERTY);
+    }
+
+    @Override
+    public HealthCheckResponse call() {
+        return HealthCheckResponse.named("gate-shutdown-report")
+                .withData("open-before-destroyed", System.getProperty(PROPERTY, "unknown"))
+                .up()
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+package org.eclipse.microprofile.health.tck.deployment;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Liveness;
+import org.eclipse.microprofile.health.ReadinessGate;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+// closes the readiness gate on every odd invocation and opens it on every even invocation
+@Liveness
+@ApplicationScoped
+public class GateSwitchLiveness implements HealthCheck {
+
+    private final AtomicLong switches = new AtomicLong();
+
+    @Inject
+    private ReadinessGate gate;
+
+    @Override
+    public HealthCheckResponse call() {
+        if (switches.incrementAndGet() % 2 == 1) {
+            gate.close();
+        } else {
+            gate.open();
+        }
+        return HealthCheckResponse.named("gate-switch").withData("open", gate.isOpen()).up().build();
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package org.eclipse.microprofile.health.tck.deployment;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.HealthGroup;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Produces;
+
+// group procedures only, the successful ones count their invocations
+@ApplicationScoped
+public class GroupProcedures {
+
+    private final AtomicLong databaseInvocations = new AtomicLong();
+
+    private final AtomicLong cacheInvocations = new AtomicLong();
+
+    private final AtomicLong sharedInvocations = new AtomicLong();
+
+    @Produces
+    @HealthGroup("database")
+    HealthCheck databaseCheck() {
+        return () -> counted("database-check", databaseInvocations);
+    }
+
+    @Produces
+    @HealthGroup("cache")
+    HealthCheck cacheCheck() {
+        return () -> counted("cache-check", cacheInvocations);
+    }
+
+    @Produces
+    @HealthGroup("database")
+    @HealthGroup("cache")
+    HealthCheck sharedCheck() {
+        return () -> counted("shared-check", sharedInvocations);
+    }
+
+    @Produces
+    @HealthGroup("messaging")
+    HealthCheck failedGroupCheck() {
+        return () -> HealthCheckResponse.down("failed-group-check");
+    }
+
+    private static HealthCheckResponse counted(String name, AtomicLong invocations) {
+        return HealthCheckResponse.named(name)
+                .withData("invocations", invocations.incrementAndGet())
+                .up()
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+package org.eclipse.microprofile.health.tck.deployment;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.HealthIndicator;
+import org.eclipse.microprofile.health.Liveness;
+import org.eclipse.microprofile.health.Readiness;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+// flips the readiness indicator on every invocation, setting it UP with data first and then DOWN
+@Liveness
+@ApplicationScoped
+public class IndicatorSwitchLiveness implements HealthCheck {
+
+    private final AtomicLong flips = new AtomicLong();
+
+    @Inject
+    @Readiness
+    private HealthIndicator indicator;
+
+    @Override
+    public HealthCheckResponse call() {
+        long flip = flips.incrementAndGet();
+        if (flip % 2 == 1) {
+            indicator.set(HealthCheckResponse.named(indicator.getName()).withData("flips", flip).up().build());
+        } else {
+            indicator.down();
+        }
+        return HealthCheckResponse.named("indicator-switch").withData("flips", flip).up().build();
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+package org.eclipse.microprofile.health.tck.deployment;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
+import org.eclipse.microprofile.health.Liveness;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+// reports the notifications recorded by the RecordingListener, keyed by procedure identifier
+@Liveness
+@ApplicationScoped
+public class ListenerReportLiveness implements HealthCheck {
+
+    @Inject
+    private RecordingListener listener;
+
+    @Override
+    public HealthCheckResponse call() {
+        HealthCheckResponseBuilder builder = HealthCheckResponse.named("listener-report");
+        listener.getInvocations().forEach((procedure, invocations) -> builder
+                .withData(procedure + ".before", invocations.getBefore())
+                .withData(procedure + ".after", invocations.getAfter())
+                .withData(procedure + ".status", invocations.getLastStatus())
+                .withData(procedure + ".failure", invocations.getLastFailure())
+                .withData(procedure + ".duration", invocations.getLastDuration()));
+        return builder.up().build();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package org.eclipse.microprofile.health.tck.deployment;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckName;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Liveness;
+import org.eclipse.microprofile.health.Readiness;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Produces;
+
+// procedures declaring their name, the successful ones count their invocations
+@ApplicationScoped
+public class NamedProcedures {
+
+    private final AtomicLong namedInvocations = new AtomicLong();
+
+    private final AtomicLong otherNamedInvocations = new AtomicLong();
+
+    @Produces
+    @Readiness
+    @HealthCheckName("named-check")
+    HealthCheck namedCheck() {
+        return () -> counted("named-check", namedInvocations);
+    }
+
+    @Produces
+    @Readiness
+    @HealthCheckName("other-named-check")
+    HealthCheck otherNamedCheck() {
+        return () -> counted("other-named-check", otherNamedInvocations);
+    }
+
+    @Produces
+    @Liveness
+    @HealthCheckName("named-failed-check")
+    HealthCheck namedFailedCheck() {
+        return () -> HealthCheckResponse.down("named-failed-check");
+    }
+
+    private static HealthCheckResponse counted(String name, AtomicLong invocations) {
+        return HealthCheckResponse.named(name)
+                .withData("invocations", invocations.incrementAndGet())
+                .up()
+                .build();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+package org.eclipse.microprofile.health.tck.deployment;
+
+import java.lang.annotation.Annotation;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+import org.eclipse.microprofile.health.spi.HealthCheckExecutionListener;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+// records the notifications received for the readiness procedures
+@ApplicationScoped
+public class RecordingListener implements HealthCheckExecutionListener {
+
+    private final Map<String, Invocations> invocations = new ConcurrentHashMap<>();
+
+    @Override
+    public void beforeInvocation(String procedure, Set<Class<? extends Annotation>> kinds) {
+        if (kinds.contains(Readiness.class)) {
+            invocations.computeIfAbsent(procedure, p -> new Invocations()).before.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void afterInvocation(String procedure, Set<Class<? extends Annotation>> kinds, long durationNanos,
+            HealthCheckResponse response, Throwable failure) {
+        if (kinds.contains(Readiness.class)) {
+            Invocations recorded = invocations.computeIfAbsent(procedure, p -> new Invocations());
+            recorded.lastStatus = response.getStatus().name();
+            recorded.lastFailure = failure == null ? "none" : failure.getClass().getName();
+            recorded.lastDuration = durationNanos;
+            recorded.after.incrementAndGet();
+        }
+    }
+
+    public Map<String, Invocations> getInvocations() {
+        return invocations;
+    }
+
+    public static class Invocations {
+
+        private final AtomicLong before = new AtomicLong();
+
+        private final AtomicLong after = new AtomicLong();
+
+        private volatile String lastStatus;
+
+        private volatile String lastFailure;
+
+        private volatile long lastDuration;
+
+        public long getBefore() {
+            return before.get();
+        }
+
+        public long getAfter() {
+            return after.get();
+        }
+
+        public String getLastStatus() {
+            return lastStatus;
+        }
+
+        public String getLastFailure() {
+            return lastFailure;
+        }
+
+        public long getLastDuration() {
+            return lastDuration;
+        }
+    }
+}
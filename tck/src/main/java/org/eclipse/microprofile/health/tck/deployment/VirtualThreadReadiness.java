@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+package org.eclipse.microprofile.health.tck.deployment;
+
+import java.lang.reflect.Method;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+// reports whether it was invoked on a virtual thread, Thread::isVirtual is only available since Java 21
+@Readiness
+@ApplicationScoped
+public class VirtualThreadReadiness implements HealthCheck {
+
+    @Override
+    public HealthCheckResponse call() {
+        boolean virtual = false;
+        try {
+            Method isVirtual = Thread.class.getMethod("isVirtual");
+            virtual = (Boolean) isVirtual.invoke(Thread.currentThread());
+        } catch (ReflectiveOperationException e) {
+            // no virtual threads support
+        }
+
+        return HealthCheckResponse.named("virtual-thread-check")
+                .withData("java-version", Runtime.version().feature())
+                .withData("virtual", virtual)
+                .up()
+                .build();
+    }
+}